@@ -0,0 +1,125 @@
+package edu.itba.cryptotracker.application.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Registry of in-flight calls keyed by K.
+ *
+ * The first caller for a key runs the action; concurrent callers for the same
+ * key wait on the same {@link CompletableFuture} and get its result (or its
+ * exception) instead of running the action again. The key is released as soon
+ * as the action finishes, so later calls run it again.
+ *
+ * When the action writes inside a transaction, {@link #execute(Object, Supplier, BiConsumer)}
+ * holds the waiting callers until it commits, so they never get a value whose row
+ * they can't read yet, or that a rollback takes back.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(final K key, final Supplier<V> action) {
+        return execute(key, action, (onPublish, onDiscard) -> onPublish.run());
+    }
+
+    /**
+     * Like {@link #execute(Object, Supplier)}, but a successful result only reaches the
+     * waiting callers when publishWhen runs its first callback (e.g. AfterCommit::run).
+     * If it runs the second one instead, the result is discarded and the waiting
+     * callers start over, one of them running the action again.
+     */
+    public V execute(final K key, final Supplier<V> action, final BiConsumer<Runnable, Runnable> publishWhen) {
+        while (true) {
+            final var own = new CompletableFuture<V>();
+            final var existing = inFlight.putIfAbsent(key, own);
+
+            if (existing != null) {
+                try {
+                    return await(existing);
+                } catch (final DiscardedResultException e) {
+                    continue;
+                }
+            }
+
+            final V value;
+            try {
+                value = action.get();
+            } catch (final RuntimeException | Error e) {
+                inFlight.remove(key, own);
+                own.completeExceptionally(e);
+                throw e;
+            }
+
+            publishWhen.accept(
+                () -> {
+                    inFlight.remove(key, own);
+                    own.complete(value);
+                },
+                () -> {
+                    inFlight.remove(key, own);
+                    own.completeExceptionally(new DiscardedResultException());
+                }
+            );
+            return value;
+        }
+    }
+
+    /**
+     * Starts the action asynchronously unless a call for the key is already running.
+     *
+     * @return the future of the running call for the key
+     */
+    public CompletableFuture<V> executeAsync(final K key, final Supplier<CompletableFuture<V>> action) {
+        final var own = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, own);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            action.get().whenComplete((value, error) -> {
+                inFlight.remove(key, own);
+                if (error != null) {
+                    own.completeExceptionally(error);
+                } else {
+                    own.complete(value);
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+        }
+
+        return own;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class DiscardedResultException extends RuntimeException {
+        private DiscardedResultException() {
+            super(null, null, false, false);
+        }
+    }
+}
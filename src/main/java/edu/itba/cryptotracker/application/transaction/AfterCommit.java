@@ -0,0 +1,45 @@
+package edu.itba.cryptotracker.application.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects that other threads can observe (in-memory indexes, caches,
+ * shared futures) until the surrounding transaction has committed, so they never
+ * expose data that a rollback later takes back.
+ *
+ * Outside a transaction there is nothing to wait for and the action runs right away.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action once the current transaction commits; it is dropped on rollback.
+     */
+    public static void run(final Runnable action) {
+        run(action, () -> { });
+    }
+
+    /**
+     * Runs onCommit once the current transaction commits, or onRollback if it doesn't.
+     */
+    public static void run(final Runnable onCommit, final Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -1,9 +1,13 @@
 package edu.itba.cryptotracker.application.usecase.crypto;
 
+import edu.itba.cryptotracker.application.concurrent.SingleFlight;
+import edu.itba.cryptotracker.application.transaction.AfterCommit;
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
 import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
 import edu.itba.cryptotracker.domain.exception.ExternalApiException;
 import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
+import edu.itba.cryptotracker.domain.gateway.CryptoCatalogGateway;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
 import edu.itba.cryptotracker.domain.usecase.crypto.CryptoQueryUseCase;
 import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
 import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
@@ -12,7 +16,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -22,6 +29,10 @@ public class CryptoQueryUseCaseImpl implements CryptoQueryUseCase {
 
     private final CryptoRepositoryGateway cryptoRepository;
     private final CryptoProviderGateway cryptoProvider;
+    private final CryptoCatalogGateway cryptoCatalog;
+
+    // Concurrent misses for the same id share one fetch-and-save; they get it once it commits
+    private final SingleFlight<String, Crypto> inFlightFetches = new SingleFlight<>();
 
     @Transactional
     public Crypto findById(String coingeckoId) {
@@ -42,7 +53,7 @@ public class CryptoQueryUseCaseImpl implements CryptoQueryUseCase {
         }
 
         log.debug("Cache miss: {}, fetching from API", normalizedId);
-        return fetchAndCache(normalizedId);
+        return inFlightFetches.execute(normalizedId, () -> fetchAndCache(normalizedId), AfterCommit::run);
     }
 
 
@@ -52,31 +63,43 @@ public class CryptoQueryUseCaseImpl implements CryptoQueryUseCase {
         return cryptoRepository.findAll();
     }
 
+    // Search results are not written back: several hits can share a symbol (eth: ethereum,
+    // ethereum-wormhole) and crypto.symbol is unique. Stored rows get their prices refreshed elsewhere
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Crypto> search(String query, int limit) {
-        List<Crypto> results;
-
-        if (query != null && !query.isBlank()) {
-            results = cryptoProvider.searchCryptos(query, limit);
-        } else {
-            results = cryptoProvider.fetchTopCryptos(limit);
+        boolean hasQuery = query != null && !query.isBlank();
+
+        if (cryptoCatalog.count() > 0) {
+            // Matching is local: the network is only hit to price the final top-N
+            List<CryptoListingModel> matches = hasQuery
+                ? cryptoCatalog.search(query, limit)
+                : cryptoCatalog.findTopRanked(limit);
+            List<String> ids = matches.stream().map(CryptoListingModel::id).toList();
+            List<Crypto> fetched = cryptoProvider.fetchCryptos(ids);
+            return withLastKnownPrices(ids, fetched);
         }
 
-        // Cache all search results so they're available for subsequent GET by ID calls
-        if (!results.isEmpty()) {
-            log.debug("Caching {} search results", results.size());
-            results.forEach(crypto -> {
-                try {
-                    cryptoRepository.save(crypto);
-                    log.debug("Cached: {} ({})", crypto.getName(), crypto.getId());
-                } catch (Exception e) {
-                    log.warn("Failed to cache crypto {}: {}", crypto.getId(), e.getMessage());
-                }
-            });
+        // Catálogo todavía vacío (primer arranque, o la primera carga falló y se está reintentando):
+        // se busca entre las cryptos guardadas en vez de llamar a /search en cada tecla
+        log.debug("Crypto catalogue not loaded yet, searching stored cryptos only");
+        return cryptoRepository.search(hasQuery ? query : "", limit);
+    }
+
+    // Lo que Coingecko no pudo devolver con precio (caído, circuito abierto) se sirve con el
+    // último precio guardado y su lastUpdatedAt, sin pisarlo
+    private List<Crypto> withLastKnownPrices(List<String> ids, List<Crypto> fetched) {
+        if (fetched.size() == ids.size()) {
+            return fetched;
         }
 
-        return results;
+        Map<String, Crypto> byId = new HashMap<>();
+        fetched.forEach(crypto -> byId.put(crypto.getId(), crypto));
+
+        List<String> missing = ids.stream().filter(id -> !byId.containsKey(id)).toList();
+        cryptoRepository.findAllByIds(missing).forEach(crypto -> byId.putIfAbsent(crypto.getId(), crypto));
+
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
     private Crypto fetchAndCache(String coingeckoId) {
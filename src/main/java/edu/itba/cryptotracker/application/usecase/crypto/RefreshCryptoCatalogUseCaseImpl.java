@@ -0,0 +1,44 @@
+package edu.itba.cryptotracker.application.usecase.crypto;
+
+import edu.itba.cryptotracker.domain.gateway.CryptoCatalogGateway;
+import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import edu.itba.cryptotracker.domain.usecase.crypto.RefreshCryptoCatalogUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshCryptoCatalogUseCaseImpl implements RefreshCryptoCatalogUseCase {
+
+    private final CryptoCatalogGateway cryptoCatalog;
+    private final CryptoProviderGateway cryptoProvider;
+
+    @Override
+    public int refreshCatalog(int rankedCoins) {
+        final var coins = cryptoProvider.fetchCoinList();
+        if (coins.isEmpty()) {
+            log.warn("Coin list came back empty, keeping the current crypto catalogue");
+            return 0;
+        }
+
+        final var ranks = cryptoProvider.fetchMarketCapRanks(rankedCoins);
+        if (ranks.isEmpty() && cryptoCatalog.count() > 0) {
+            // Sin ranking la búsqueda pierde el orden por market cap: mejor conservar el catálogo anterior
+            log.warn("Market cap ranks unavailable, keeping the current crypto catalogue");
+            return 0;
+        }
+
+        final List<CryptoListingModel> listings = coins.stream()
+            .map(coin -> coin.withMarketCapRank(ranks.get(coin.id())))
+            .toList();
+
+        cryptoCatalog.replaceAll(listings);
+        log.info("Crypto catalogue refreshed: {} coins, {} ranked", listings.size(), ranks.size());
+        return listings.size();
+    }
+}
@@ -0,0 +1,46 @@
+package edu.itba.cryptotracker.application.usecase.crypto;
+
+import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.PriceRefreshResultModel;
+import edu.itba.cryptotracker.domain.usecase.crypto.RefreshStalePricesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshStalePricesUseCaseImpl implements RefreshStalePricesUseCase {
+
+    private final CryptoRepositoryGateway cryptoRepository;
+    private final CryptoProviderGateway cryptoProvider;
+
+    // No transaction around the whole run: the provider call must not hold a connection
+    @Override
+    public PriceRefreshResultModel refreshStalePrices(Duration staleAfter, int maxCryptos, int maxRequests) {
+        final var threshold = Instant.now().minus(staleAfter);
+
+        if (maxCryptos <= 0 || maxRequests <= 0) {
+            return new PriceRefreshResultModel(0, 0, cryptoRepository.countStale(threshold));
+        }
+
+        // The provider decides how many ids fit in a request, so it trims the batch to the budget
+        final var staleIds = cryptoProvider.limitToPriceRequests(
+            cryptoRepository.findStaleIds(threshold, maxCryptos), maxRequests);
+        if (staleIds.isEmpty()) {
+            log.debug("No stale cryptos to refresh");
+            return new PriceRefreshResultModel(0, 0, 0);
+        }
+
+        final var prices = cryptoProvider.fetchPrices(staleIds);
+        final var refreshed = prices.isEmpty() ? 0 : cryptoRepository.updatePrices(prices, Instant.now());
+        final var backlog = cryptoRepository.countStale(threshold);
+
+        log.info("Refreshed prices for {}/{} stale cryptos, {} still stale", refreshed, staleIds.size(), backlog);
+        return new PriceRefreshResultModel(staleIds.size(), refreshed, backlog);
+    }
+}
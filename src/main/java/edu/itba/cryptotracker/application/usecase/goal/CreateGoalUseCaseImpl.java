@@ -1,8 +1,10 @@
 package edu.itba.cryptotracker.application.usecase.goal;
 
+import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
 import edu.itba.cryptotracker.domain.entity.goal.Goal;
-import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
 import edu.itba.cryptotracker.domain.gateway.GoalRepositoryGateway;
+import edu.itba.cryptotracker.domain.usecase.crypto.CryptoQueryUseCase;
 import edu.itba.cryptotracker.domain.usecase.goal.CreateGoalUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +19,7 @@ import java.util.Optional;
 public class CreateGoalUseCaseImpl implements CreateGoalUseCase {
 
     private final GoalRepositoryGateway goalRepo;
-    private final CryptoRepositoryGateway cryptoRepo;
+    private final CryptoQueryUseCase cryptoQueryUseCase;
 
     @Override
     public Optional<Goal> execute(final String cryptoId, final BigDecimal goalQty) {
@@ -34,13 +36,15 @@ public class CreateGoalUseCaseImpl implements CreateGoalUseCase {
             return Optional.empty();
         }
 
-        final var cryptoOpt = cryptoRepo.findById(normalizedId);
-        if (cryptoOpt.isEmpty()) {
+        final Crypto crypto;
+        try {
+            crypto = cryptoQueryUseCase.findById(normalizedId);
+        } catch (final CryptoNotFoundException e) {
             log.info("CreateGoal: crypto {} not found", normalizedId);
             return Optional.empty();
         }
 
-        final var saved = goalRepo.save(Goal.create(cryptoOpt.get(), goalQty));
+        final var saved = goalRepo.save(Goal.create(crypto, goalQty));
         log.info("CreateGoal: created goal {} for crypto {}", saved.getId(), normalizedId);
         return Optional.of(saved);
     }
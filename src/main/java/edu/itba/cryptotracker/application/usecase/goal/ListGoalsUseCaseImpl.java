@@ -2,11 +2,15 @@ package edu.itba.cryptotracker.application.usecase.goal;
 
 import edu.itba.cryptotracker.domain.entity.goal.Goal;
 import edu.itba.cryptotracker.domain.gateway.GoalRepositoryGateway;
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.GoalProgressModel;
 import edu.itba.cryptotracker.domain.usecase.goal.ListGoalsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Slf4j
@@ -15,10 +19,30 @@ import java.util.List;
 public class ListGoalsUseCaseImpl implements ListGoalsUseCase {
 
     private final GoalRepositoryGateway goalRepo;
+    private final UserCryptoRepositoryGateway userCryptoRepo;
 
     @Override
     public List<Goal> execute() {
         log.debug("ListGoals");
         return goalRepo.findAll();
     }
+
+    // Two queries regardless of the number of goals: goals fetch-joined with their cryptos,
+    // then one grouped SUM for all their crypto ids
+    @Override
+    @Transactional(readOnly = true)
+    public List<GoalProgressModel> executeWithProgress() {
+        log.debug("ListGoals with progress");
+        final var goals = goalRepo.findAll();
+        if (goals.isEmpty()) {
+            return List.of();
+        }
+
+        final var cryptoIds = goals.stream().map(goal -> goal.getCrypto().getId()).distinct().toList();
+        final var quantities = userCryptoRepo.sumQuantityByCryptoIds(cryptoIds);
+
+        return goals.stream()
+            .map(goal -> GoalProgressModel.of(goal, quantities.getOrDefault(goal.getCrypto().getId(), BigDecimal.ZERO)))
+            .toList();
+    }
 }
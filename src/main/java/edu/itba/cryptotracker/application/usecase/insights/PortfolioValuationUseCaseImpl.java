@@ -0,0 +1,95 @@
+package edu.itba.cryptotracker.application.usecase.insights;
+
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.BalancesModel;
+import edu.itba.cryptotracker.domain.model.CryptoBalanceModel;
+import edu.itba.cryptotracker.domain.model.CryptoHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.PlatformBalanceModel;
+import edu.itba.cryptotracker.domain.model.PlatformHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.PortfolioValuationModel;
+import edu.itba.cryptotracker.domain.usecase.insights.PortfolioValuationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioValuationUseCaseImpl implements PortfolioValuationUseCase {
+
+    private static final int FIAT_SCALE = 2;
+    private static final int BTC_SCALE = 10;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final UserCryptoRepositoryGateway userCryptoRepository;
+
+    // The database joins holdings with prices and sums them per crypto and per platform,
+    // so only one row per group crosses the wire. Totals and percentages come from those rows.
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioValuationModel valuePortfolio() {
+        final List<CryptoHoldingTotalsModel> byCrypto = userCryptoRepository.sumHoldingsByCrypto();
+        if (byCrypto.isEmpty()) {
+            return PortfolioValuationModel.empty();
+        }
+
+        final List<PlatformHoldingTotalsModel> byPlatform = userCryptoRepository.sumHoldingsByPlatform();
+
+        var totalUsd = BigDecimal.ZERO;
+        var totalEur = BigDecimal.ZERO;
+        var totalBtc = BigDecimal.ZERO;
+        for (CryptoHoldingTotalsModel row : byCrypto) {
+            if (row.symbol() == null) {
+                log.warn("No stored prices for crypto {}, valuing its holdings at zero", row.cryptoId());
+            }
+            totalUsd = totalUsd.add(row.value().usd());
+            totalEur = totalEur.add(row.value().eur());
+            totalBtc = totalBtc.add(row.value().btc());
+        }
+        final var totals = new BalancesModel(totalUsd, totalEur, totalBtc);
+
+        final var cryptos = byCrypto.stream()
+            .map(row -> new CryptoBalanceModel(
+                row.cryptoId(),
+                row.symbol(),
+                row.name(),
+                row.quantity(),
+                round(row.value()),
+                percentage(row.value().usd(), totals.usd())
+            ))
+            .sorted(Comparator.comparing((CryptoBalanceModel model) -> model.balances().usd()).reversed())
+            .toList();
+
+        final var platforms = byPlatform.stream()
+            .map(row -> new PlatformBalanceModel(
+                row.platformId(),
+                round(row.value()),
+                percentage(row.value().usd(), totals.usd())
+            ))
+            .sorted(Comparator.comparing((PlatformBalanceModel model) -> model.balances().usd()).reversed())
+            .toList();
+
+        return new PortfolioValuationModel(round(totals), cryptos, platforms);
+    }
+
+    private static BalancesModel round(final BalancesModel balances) {
+        return new BalancesModel(
+            balances.usd().setScale(FIAT_SCALE, RoundingMode.HALF_UP),
+            balances.eur().setScale(FIAT_SCALE, RoundingMode.HALF_UP),
+            balances.btc().setScale(BTC_SCALE, RoundingMode.HALF_EVEN).stripTrailingZeros()
+        );
+    }
+
+    private static BigDecimal percentage(final BigDecimal part, final BigDecimal total) {
+        if (total.signum() == 0) {
+            return BigDecimal.ZERO.setScale(FIAT_SCALE);
+        }
+        return part.multiply(ONE_HUNDRED).divide(total, FIAT_SCALE, RoundingMode.HALF_UP);
+    }
+}
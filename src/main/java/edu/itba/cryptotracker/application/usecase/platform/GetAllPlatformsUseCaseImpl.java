@@ -1,7 +1,6 @@
 package edu.itba.cryptotracker.application.usecase.platform;
 
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
-import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
 import edu.itba.cryptotracker.domain.usecase.platform.GetAllPlatformsUseCase;
 import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
 import lombok.RequiredArgsConstructor;
@@ -16,12 +15,13 @@ import java.util.List;
 public class GetAllPlatformsUseCaseImpl implements GetAllPlatformsUseCase {
 
     private final PlatformRepositoryGateway platformRepository;
-    private final PlatformProviderGateway platformProviderGateway;
+
+    /**
+     * Served from the stored catalog; RefreshPlatformCatalogUseCase keeps it in sync with CoinGecko.
+     */
     @Override
     public List<Platform> getAllPlatforms() {
-        return platformProviderGateway.fetchAllExchangesList();
-
-//        log.debug("Retrieving all platforms");
-//        return platformRepository.findAll();
+        log.debug("Retrieving all platforms");
+        return platformRepository.findAll();
     }
 }
@@ -0,0 +1,46 @@
+package edu.itba.cryptotracker.application.usecase.platform;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.domain.usecase.platform.RefreshPlatformCatalogUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshPlatformCatalogUseCaseImpl implements RefreshPlatformCatalogUseCase {
+
+    private final PlatformRepositoryGateway platformRepository;
+    private final PlatformProviderGateway platformProviderGateway;
+
+    @Override
+    public int refreshCatalog() {
+        final List<Platform> fetched = platformProviderGateway.fetchAllExchangesList();
+        if (fetched.isEmpty()) {
+            // El gateway devuelve lista vacía ante errores: mejor servir el catálogo anterior
+            log.warn("Exchange list came back empty, keeping the current platform catalog");
+            return 0;
+        }
+
+        final Map<String, String> storedNames = platformRepository.findAll().stream()
+            .collect(Collectors.toMap(Platform::getId, Platform::getName, (first, second) -> first));
+
+        final List<Platform> changed = fetched.stream()
+            .filter(platform -> !platform.getName().equals(storedNames.get(platform.getId())))
+            .toList();
+
+        if (!changed.isEmpty()) {
+            platformRepository.saveAll(changed);
+        }
+
+        log.info("Platform catalog refreshed: {} exchanges fetched, {} stored", fetched.size(), changed.size());
+        return changed.size();
+    }
+}
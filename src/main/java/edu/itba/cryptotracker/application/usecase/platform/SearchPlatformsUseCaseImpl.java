@@ -0,0 +1,33 @@
+package edu.itba.cryptotracker.application.usecase.platform;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.domain.usecase.platform.SearchPlatformsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchPlatformsUseCaseImpl implements SearchPlatformsUseCase {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final PlatformRepositoryGateway platformRepository;
+
+    @Override
+    public List<Platform> search(String query, int limit) {
+        log.debug("Searching platforms with query: {}", query);
+        return platformRepository.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // Sin limit: el endpoint devolvía todas las coincidencias antes de que existiera el parámetro
+    @Override
+    public List<Platform> search(String query) {
+        log.debug("Searching all platforms with query: {}", query);
+        return platformRepository.search(query, Integer.MAX_VALUE);
+    }
+}
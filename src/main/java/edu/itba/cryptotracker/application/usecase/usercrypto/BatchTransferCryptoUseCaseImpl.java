@@ -0,0 +1,198 @@
+package edu.itba.cryptotracker.application.usecase.usercrypto;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
+import edu.itba.cryptotracker.domain.exception.InvalidTransferException;
+import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
+import edu.itba.cryptotracker.domain.exception.UserCryptoNotFoundException;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.HoldingDeltaModel;
+import edu.itba.cryptotracker.domain.model.TransferCryptoRequestModel;
+import edu.itba.cryptotracker.domain.model.TransferCryptoResponseModel;
+import edu.itba.cryptotracker.domain.usecase.usercrypto.BatchTransferCryptoUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many transfers in one transaction: either every leg is applied or none is.
+ *
+ * All legs are validated before anything is written, with one query for the
+ * destination platforms (ids it misses go through the same read-through lookup
+ * as a single transfer) and one for the source holdings. Legs leaving the same
+ * holding are summed, so its balance has to cover all of them, and balances are
+ * the ones before the batch: a leg can't spend what an earlier leg delivers.
+ * The writes are three JDBC batches (subtract, upsert, delete emptied sources).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTransferCryptoUseCaseImpl implements BatchTransferCryptoUseCase {
+
+    private final UserCryptoRepositoryGateway userCryptoRepository;
+    private final PlatformRepositoryGateway platformRepository;
+
+    // Same race as a single transfer: two legs creating the same destination concurrently
+    @Retryable(
+        retryFor = DuplicateKeyException.class,
+        maxAttempts = TransferCryptoBetweenPlatformsUseCaseImpl.MAX_ATTEMPTS,
+        backoff = @Backoff(delay = 10, multiplier = 2, maxDelay = 200, random = true)
+    )
+    @Transactional
+    public List<TransferCryptoResponseModel> execute(List<TransferCryptoRequestModel> transfers) {
+        if (transfers == null || transfers.isEmpty()) {
+            throw new IllegalArgumentException("At least one transfer is required");
+        }
+
+        transfers.forEach(TransferCryptoBetweenPlatformsUseCaseImpl::validate);
+
+        Map<String, String> platformIds = resolvePlatforms(transfers);
+        Map<UUID, UserCrypto> sources = findSources(transfers);
+
+        Map<UUID, BigDecimal> toSubtract = new LinkedHashMap<>();
+        Map<HoldingKey, BigDecimal> toAdd = new LinkedHashMap<>();
+
+        for (TransferCryptoRequestModel transfer : transfers) {
+            UserCrypto source = sources.get(transfer.userCryptoId());
+            if (!source.getPlatformId().equals(transfer.fromPlatformId())) {
+                throw new InvalidTransferException("Source platform mismatch");
+            }
+            if (source.getPlatformId().equals(platformIds.get(transfer.toPlatformId()))) {
+                throw new InvalidTransferException("Cannot transfer to same platform");
+            }
+
+            // Rounded per leg, as applying the legs one by one would
+            toSubtract.merge(source.getId(),
+                TransferCryptoBetweenPlatformsUseCaseImpl.toHoldingScale(transfer.totalToSubtract()), BigDecimal::add);
+            toAdd.merge(destinationOf(source, platformIds.get(transfer.toPlatformId())),
+                TransferCryptoBetweenPlatformsUseCaseImpl.toHoldingScale(transfer.quantityToReceive()), BigDecimal::add);
+        }
+
+        // Fail fast on the balances we read; the conditional updates below are what actually decide
+        toSubtract.forEach((id, total) -> {
+            UserCrypto source = sources.get(id);
+            if (!source.hasSufficientBalance(total)) {
+                throw InvalidTransferException.insufficientBalance(
+                    source.getQuantity().toPlainString(),
+                    total.toPlainString()
+                );
+            }
+        });
+
+        Set<UUID> rejected = userCryptoRepository.subtractQuantitiesIfSufficient(toSubtract);
+        if (!rejected.isEmpty()) {
+            // A concurrent transfer drained some holding after we read it; throwing rolls back the rest
+            throw new InvalidTransferException("Insufficient balance in holdings: " + rejected);
+        }
+
+        userCryptoRepository.addQuantitiesOrCreate(toAdd.entrySet().stream()
+            .map(entry -> new HoldingDeltaModel(
+                entry.getKey().userId(),
+                entry.getKey().cryptoId(),
+                entry.getKey().platformId(),
+                entry.getValue()
+            ))
+            .toList());
+
+        userCryptoRepository.deleteAllIfEmpty(toSubtract.keySet());
+
+        Map<HoldingKey, UUID> destinationIds = findDestinationIds(toAdd.keySet());
+        log.info("Applied {} transfers from {} holdings to {} holdings",
+            transfers.size(), toSubtract.size(), toAdd.size());
+
+        return transfers.stream()
+            .map(transfer -> {
+                UserCrypto source = sources.get(transfer.userCryptoId());
+                String toPlatformId = platformIds.get(transfer.toPlatformId());
+                return new TransferCryptoResponseModel(
+                    source.getId(),
+                    destinationIds.get(destinationOf(source, toPlatformId)),
+                    transfer.fromPlatformId(),
+                    toPlatformId,
+                    transfer.quantityToTransfer(),
+                    transfer.networkFee(),
+                    TransferCryptoBetweenPlatformsUseCaseImpl.toHoldingScale(transfer.quantityToReceive())
+                );
+            })
+            .toList();
+    }
+
+    // Maps each requested destination to the stored platform id. One query covers the
+    // platforms already stored; the rest go through the read-through findById, which may
+    // fetch them from Coingecko, so the batch accepts whatever a single transfer accepts
+    private Map<String, String> resolvePlatforms(List<TransferCryptoRequestModel> transfers) {
+        Map<String, String> platformIds = new HashMap<>();
+        transfers.forEach(transfer -> platformIds.put(
+            transfer.toPlatformId(), TransferCryptoBetweenPlatformsUseCaseImpl.normalizePlatformId(transfer.toPlatformId())));
+
+        Set<String> found = platformRepository.findAllByIds(Set.copyOf(platformIds.values()))
+            .stream()
+            .map(Platform::getId)
+            .collect(Collectors.toSet());
+
+        platformIds.replaceAll((requested, id) -> found.contains(id)
+            ? id
+            : platformRepository.findById(id)
+                .map(Platform::getId)
+                .orElseThrow(() -> new PlatformNotFoundException(requested)));
+
+        return platformIds;
+    }
+
+    private Map<UUID, UserCrypto> findSources(List<TransferCryptoRequestModel> transfers) {
+        Set<UUID> ids = transfers.stream()
+            .map(TransferCryptoRequestModel::userCryptoId)
+            .collect(Collectors.toSet());
+
+        Map<UUID, UserCrypto> sources = userCryptoRepository.findAllByIds(ids)
+            .stream()
+            .collect(Collectors.toMap(UserCrypto::getId, Function.identity()));
+
+        ids.stream()
+            .filter(id -> !sources.containsKey(id))
+            .findFirst()
+            .ifPresent(id -> {
+                throw UserCryptoNotFoundException.byId(id);
+            });
+
+        return sources;
+    }
+
+    // One query for every destination; combinations outside the batch are filtered out here
+    private Map<HoldingKey, UUID> findDestinationIds(Set<HoldingKey> destinations) {
+        Set<String> userIds = destinations.stream().map(HoldingKey::userId).collect(Collectors.toSet());
+        Set<String> cryptoIds = destinations.stream().map(HoldingKey::cryptoId).collect(Collectors.toSet());
+        Set<String> platformIds = destinations.stream().map(HoldingKey::platformId).collect(Collectors.toSet());
+
+        Map<HoldingKey, UUID> ids = new HashMap<>();
+        userCryptoRepository.findAllByUserIdsAndCryptoIdsAndPlatformIds(userIds, cryptoIds, platformIds).forEach(holding -> {
+            HoldingKey key = new HoldingKey(holding.getUserId(), holding.getCryptoId(), holding.getPlatformId());
+            if (destinations.contains(key)) {
+                ids.put(key, holding.getId());
+            }
+        });
+        return ids;
+    }
+
+    private static HoldingKey destinationOf(UserCrypto source, String toPlatformId) {
+        return new HoldingKey(source.getUserId(), source.getCryptoId(), toPlatformId);
+    }
+
+    private record HoldingKey(String userId, String cryptoId, String platformId) {
+    }
+}
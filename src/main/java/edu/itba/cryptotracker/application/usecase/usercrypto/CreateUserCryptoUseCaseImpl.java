@@ -3,12 +3,11 @@ package edu.itba.cryptotracker.application.usecase.usercrypto;
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
 import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
-import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
 import edu.itba.cryptotracker.domain.exception.DuplicateUserCryptoException;
 import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
-import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
 import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
 import edu.itba.cryptotracker.domain.model.CreateCryptoRequestModel;
+import edu.itba.cryptotracker.domain.usecase.crypto.CryptoQueryUseCase;
 import edu.itba.cryptotracker.domain.usecase.usercrypto.CreateUserCryptoUseCase;
 import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +21,7 @@ import java.math.BigDecimal;
 public class CreateUserCryptoUseCaseImpl implements CreateUserCryptoUseCase {
 
     private final UserCryptoRepositoryGateway userCryptoRepository;
-    private final CryptoRepositoryGateway cryptoRepository;
+    private final CryptoQueryUseCase cryptoQueryUseCase; // stored, or fetched once per id
     private final PlatformRepositoryGateway platformRepository;
 
 
@@ -33,8 +32,7 @@ public class CreateUserCryptoUseCaseImpl implements CreateUserCryptoUseCase {
             throw new IllegalArgumentException("Quantity must be positive");
         }
 
-        Crypto crypto = cryptoRepository.findById(request.cryptoId())
-            .orElseThrow(() -> new CryptoNotFoundException("Crypto not found: " + request.cryptoId()));
+        Crypto crypto = cryptoQueryUseCase.findById(request.cryptoId());
 
         Platform platform = platformRepository.findById(request.platformId())
             .orElseThrow(() -> new PlatformNotFoundException(request.platformId()));
@@ -55,7 +53,7 @@ public class CreateUserCryptoUseCaseImpl implements CreateUserCryptoUseCase {
             request.userId(),
             request.quantity(),
             request.platformId(),
-            request.cryptoId()
+            crypto.getId()
         );
 
         userCryptoRepository.save(userCrypto);
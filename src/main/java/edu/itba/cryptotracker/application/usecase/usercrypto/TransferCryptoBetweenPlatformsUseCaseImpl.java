@@ -1,5 +1,6 @@
 package edu.itba.cryptotracker.application.usecase.usercrypto;
 
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
 import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
 import edu.itba.cryptotracker.domain.exception.InvalidTransferException;
 import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
@@ -10,47 +11,43 @@ import edu.itba.cryptotracker.domain.model.TransferCryptoResponseModel;
 import edu.itba.cryptotracker.domain.usecase.usercrypto.TransferCryptoBetweenPlatformsUseCase;
 import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.math.RoundingMode;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class TransferCryptoBetweenPlatformsUseCaseImpl implements TransferCryptoBetweenPlatformsUseCase {
 
+    // Attempts, including the first, before a conflicting transfer gives up with a 409
+    static final int MAX_ATTEMPTS = 5;
+
     private final UserCryptoRepositoryGateway userCryptoRepository;
     private final PlatformRepositoryGateway platformRepository;
 
+    // Both balances are updated in SQL, so concurrent transfers no longer conflict on them. The
+    // one race left is two transfers creating the same destination holding at once: the loser
+    // hits the unique key and runs again, now finding the row. Jittered backoff keeps the
+    // losers of a race from colliding again on the next attempt
+    @Retryable(
+        retryFor = DuplicateKeyException.class,
+        maxAttempts = MAX_ATTEMPTS,
+        backoff = @Backoff(delay = 10, multiplier = 2, maxDelay = 200, random = true)
+    )
     @Transactional
     public TransferCryptoResponseModel execute(TransferCryptoRequestModel request) {
-        if (request.quantityToTransfer().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Transfer quantity must be positive");
-        }
-
-        if (request.networkFee().compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Network fee cannot be negative");
-        }
-
-        if (request.fromPlatformId().equals(request.toPlatformId())) {
-            throw new InvalidTransferException("Cannot transfer to same platform");
-        }
-
-        if (request.fromPlatformId().isBlank()) {
-            throw new IllegalArgumentException("Source platform ID cannot be blank");
-        }
+        validate(request);
 
-        if (request.toPlatformId().isBlank()) {
-            throw new IllegalArgumentException("Destination platform ID cannot be blank");
-        }
-
-        if (!platformRepository.findById(request.toPlatformId()).isPresent()) {
-            throw new PlatformNotFoundException(request.toPlatformId());
-        }
+        // Stored under the platform's own id, not however the request spelled it
+        String toPlatformId = platformRepository.findById(request.toPlatformId())
+            .map(Platform::getId)
+            .orElseThrow(() -> new PlatformNotFoundException(request.toPlatformId()));
 
         UserCrypto source = userCryptoRepository.findById(request.userCryptoId())
             .orElseThrow(() -> UserCryptoNotFoundException.byId(request.userCryptoId()));
@@ -58,22 +55,14 @@ public class TransferCryptoBetweenPlatformsUseCaseImpl implements TransferCrypto
         if (!source.getPlatformId().equals(request.fromPlatformId())) {
             throw new InvalidTransferException("Source platform mismatch");
         }
-
-        // Capture source ID before potential deletion
-        UUID sourceId = source.getId();
-
-        BigDecimal totalToSubtract;
-        BigDecimal quantityToReceive;
-
-        if (Boolean.TRUE.equals(request.sendFullQuantity())) {
-            totalToSubtract = request.quantityToTransfer().add(request.networkFee());
-            quantityToReceive = request.quantityToTransfer();
-        } else {
-            totalToSubtract = request.quantityToTransfer();
-            quantityToReceive = request.quantityToTransfer().subtract(request.networkFee());
+        if (source.getPlatformId().equals(toPlatformId)) {
+            throw new InvalidTransferException("Cannot transfer to same platform");
         }
 
-        // Validate sufficient balance
+        BigDecimal totalToSubtract = toHoldingScale(request.totalToSubtract());
+        BigDecimal quantityToReceive = toHoldingScale(request.quantityToReceive());
+
+        // Fail fast on the balance we read; the conditional update below is what actually decides
         if (!source.hasSufficientBalance(totalToSubtract)) {
             throw InvalidTransferException.insufficientBalance(
                 source.getQuantity().toPlainString(),
@@ -81,53 +70,70 @@ public class TransferCryptoBetweenPlatformsUseCaseImpl implements TransferCrypto
             );
         }
 
-        if (quantityToReceive.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new InvalidTransferException("Network fee exceeds transfer amount");
-        }
-
-        source.subtractQuantity(totalToSubtract);
-
-        Optional<UserCrypto> destinationOpt = userCryptoRepository
-            .findByUserIdAndCryptoIdAndPlatformId(
-                source.getUserId(),
-                source.getCryptoId(),
-                request.toPlatformId()
-            );
-
-        List<UserCrypto> toSave = new ArrayList<>();
-        UserCrypto destination;
-
-        if (destinationOpt.isPresent()) {
-            destination = destinationOpt.get();
-            destination.addQuantity(quantityToReceive);
-            toSave.add(destination);
-        } else {
-            destination = UserCrypto.create(
-                source.getUserId(),
-                quantityToReceive,
-                request.toPlatformId(),
-                source.getCryptoId()
+        if (!userCryptoRepository.subtractQuantityIfSufficient(source.getId(), totalToSubtract)) {
+            // A concurrent transfer drained the holding after we read it
+            throw new InvalidTransferException(
+                "Insufficient balance: required=" + totalToSubtract.toPlainString()
             );
-            toSave.add(destination);
         }
 
-        if (source.isZeroBalance()) {
-            userCryptoRepository.deleteById(source.getId());
-        } else {
-            toSave.add(source);
-        }
+        UUID destinationId = userCryptoRepository.addQuantityOrCreate(
+            source.getUserId(),
+            source.getCryptoId(),
+            toPlatformId,
+            quantityToReceive
+        );
 
-        userCryptoRepository.saveAll(toSave);
+        // Decided by the row, not by our read: a concurrent transfer may have emptied it too
+        userCryptoRepository.deleteIfEmpty(source.getId());
 
         // Build and return response
         return new TransferCryptoResponseModel(
-            sourceId,
-            destination.getId(),
+            source.getId(),
+            destinationId,
             request.fromPlatformId(),
-            request.toPlatformId(),
+            toPlatformId,
             request.quantityToTransfer(),
             request.networkFee(),
             quantityToReceive
         );
     }
+
+    // Coingecko exchange ids are lowercase; same normalization as PlatformRepositoryGateway.findById
+    static String normalizePlatformId(String platformId) {
+        return platformId.trim().toLowerCase();
+    }
+
+    // Holdings keep two decimals (UserCrypto rounds the same way); the SQL updates would
+    // otherwise apply whatever scale the request came with
+    static BigDecimal toHoldingScale(BigDecimal quantity) {
+        return quantity.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Checks that need nothing but the request; shared with the batch transfer
+    static void validate(TransferCryptoRequestModel request) {
+        if (request.quantityToTransfer().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Transfer quantity must be positive");
+        }
+
+        if (request.networkFee().compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Network fee cannot be negative");
+        }
+
+        if (request.fromPlatformId().equals(request.toPlatformId())) {
+            throw new InvalidTransferException("Cannot transfer to same platform");
+        }
+
+        if (request.fromPlatformId().isBlank()) {
+            throw new IllegalArgumentException("Source platform ID cannot be blank");
+        }
+
+        if (request.toPlatformId().isBlank()) {
+            throw new IllegalArgumentException("Destination platform ID cannot be blank");
+        }
+
+        if (request.quantityToReceive().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new InvalidTransferException("Network fee exceeds transfer amount");
+        }
+    }
 }
@@ -48,7 +48,8 @@ public class UpdateUserCryptoUseCaseImpl implements UpdateUserCryptoUseCase {
                 userCrypto.getUserId(),
                 request.newQuantity(),
                 request.newPlatformId(),
-                userCrypto.getCryptoId()
+                userCrypto.getCryptoId(),
+                userCrypto.getVersion()
             );
 
             userCryptoRepository.save(updatedUserCrypto);
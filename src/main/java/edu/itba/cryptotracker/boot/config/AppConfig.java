@@ -1,9 +1,16 @@
 package edu.itba.cryptotracker.boot.config;
 
 import edu.itba.cryptotracker.infrastructure.external.coingecko.config.CoingeckoApiConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpRateLimitConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpResilienceConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpTransportConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
@@ -13,4 +20,35 @@ public class AppConfig {
     public CoingeckoApiConfig coingeckoApiConfig() {
         return CoingeckoApiConfig.builder().build();
     }
+
+    @Bean
+    @ConfigurationProperties("http.rate-limit")
+    public HttpRateLimitConfig httpRateLimitConfig() {
+        return HttpRateLimitConfig.builder().build();
+    }
+
+    // CoinGecko is the only upstream, so its timeout is the default read timeout.
+    // The transport follows spring.threads.virtual.enabled unless told otherwise
+    @Bean
+    @ConfigurationProperties("http.transport")
+    public HttpTransportConfig httpTransportConfig(final CoingeckoApiConfig coingeckoApiConfig,
+                                                  final Environment environment) {
+        final var builder = HttpTransportConfig.builder()
+            .virtualThreads(Threading.VIRTUAL.isActive(environment));
+        if (coingeckoApiConfig.getTimeoutSeconds() > 0) {
+            builder.readTimeout(Duration.ofSeconds(coingeckoApiConfig.getTimeoutSeconds()));
+        }
+        return builder.build();
+    }
+
+    // Same for retries: coingecko.api.retry-attempts is the default max-attempts
+    @Bean
+    @ConfigurationProperties("http.resilience")
+    public HttpResilienceConfig httpResilienceConfig(final CoingeckoApiConfig coingeckoApiConfig) {
+        final var builder = HttpResilienceConfig.builder();
+        if (coingeckoApiConfig.getRetryAttempts() > 0) {
+            builder.maxAttempts(coingeckoApiConfig.getRetryAttempts());
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,99 @@
+package edu.itba.cryptotracker.boot.config;
+
+import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.infrastructure.cache.config.CryptoCacheConfig;
+import edu.itba.cryptotracker.infrastructure.cache.RevalidationCache.ValidatedResponse;
+import edu.itba.cryptotracker.infrastructure.cache.config.NegativeCacheConfig;
+import edu.itba.cryptotracker.infrastructure.cache.config.RevalidationCacheConfig;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+// Ehcache 3 heap caches exposed through the JSR-107 API
+@Configuration
+public class CacheConfig {
+
+    public static final String CRYPTOS_CACHE = "cryptos";
+    public static final String NEGATIVE_LOOKUPS_CACHE = "negativeLookups";
+    public static final String REVALIDATION_CACHE = "revalidation";
+
+    @Bean
+    @ConfigurationProperties("crypto.cache")
+    public CryptoCacheConfig cryptoCacheConfig() {
+        return CryptoCacheConfig.builder().build();
+    }
+
+    @Bean
+    @ConfigurationProperties("negative-cache")
+    public NegativeCacheConfig negativeCacheConfig() {
+        return NegativeCacheConfig.builder().build();
+    }
+
+    @Bean
+    @ConfigurationProperties("revalidation-cache")
+    public RevalidationCacheConfig revalidationCacheConfig() {
+        return RevalidationCacheConfig.builder().build();
+    }
+
+    // One manager per application context so test contexts don't share caches
+    @Bean(destroyMethod = "close")
+    public CacheManager cryptoTrackerCacheManager() {
+        final var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        final var classLoader = getClass().getClassLoader();
+        return provider.getCacheManager(
+            URI.create("urn:cryptotracker:" + UUID.randomUUID()),
+            new DefaultConfiguration(classLoader)
+        );
+    }
+
+    @Bean
+    public Cache<String, Crypto> cryptoJCache(final CacheManager cryptoTrackerCacheManager,
+                                              final CryptoCacheConfig cryptoCacheConfig) {
+        final var configuration = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(String.class, Crypto.class,
+                ResourcePoolsBuilder.heap(cryptoCacheConfig.getMaxEntries()))
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(cryptoCacheConfig.getTimeToLive()))
+            .build();
+
+        return cryptoTrackerCacheManager.createCache(CRYPTOS_CACHE,
+            Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+
+    @Bean
+    public Cache<String, Boolean> negativeLookupJCache(final CacheManager cryptoTrackerCacheManager,
+                                                       final NegativeCacheConfig negativeCacheConfig) {
+        final var configuration = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(String.class, Boolean.class,
+                ResourcePoolsBuilder.heap(negativeCacheConfig.getMaxEntries()))
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(negativeCacheConfig.getTimeToLive()))
+            .build();
+
+        return cryptoTrackerCacheManager.createCache(NEGATIVE_LOOKUPS_CACHE,
+            Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+
+    @Bean
+    public Cache<String, ValidatedResponse> revalidationJCache(final CacheManager cryptoTrackerCacheManager,
+                                                               final RevalidationCacheConfig revalidationCacheConfig) {
+        final var configuration = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(String.class, ValidatedResponse.class,
+                ResourcePoolsBuilder.heap(revalidationCacheConfig.getMaxEntries()))
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(revalidationCacheConfig.getTimeToLive()))
+            .build();
+
+        return cryptoTrackerCacheManager.createCache(REVALIDATION_CACHE,
+            Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+}
@@ -0,0 +1,11 @@
+package edu.itba.cryptotracker.boot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// @Retryable advice runs outside @Transactional (spring-retry orders it first), so each
+// attempt gets a fresh transaction and re-reads what it is about to write
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
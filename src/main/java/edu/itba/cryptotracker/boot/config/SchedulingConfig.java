@@ -0,0 +1,32 @@
+package edu.itba.cryptotracker.boot.config;
+
+import edu.itba.cryptotracker.infrastructure.scheduler.config.CryptoCatalogRefreshConfig;
+import edu.itba.cryptotracker.infrastructure.scheduler.config.PlatformCatalogRefreshConfig;
+import edu.itba.cryptotracker.infrastructure.scheduler.config.PriceRefreshConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    @ConfigurationProperties("crypto.price-refresh")
+    public PriceRefreshConfig priceRefreshConfig() {
+        return PriceRefreshConfig.builder().build();
+    }
+
+    @Bean
+    @ConfigurationProperties("platform.catalog-refresh")
+    public PlatformCatalogRefreshConfig platformCatalogRefreshConfig() {
+        return PlatformCatalogRefreshConfig.builder().build();
+    }
+
+    @Bean
+    @ConfigurationProperties("crypto.catalog-refresh")
+    public CryptoCatalogRefreshConfig cryptoCatalogRefreshConfig() {
+        return CryptoCatalogRefreshConfig.builder().build();
+    }
+}
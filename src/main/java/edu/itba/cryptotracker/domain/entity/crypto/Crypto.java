@@ -45,6 +45,10 @@ public class Crypto {
         );
     }
 
+    public static Crypto create(CryptoMetadata metadata, LastKnownPrices prices) {
+        return create(metadata.id(), metadata.symbol(), metadata.name(), metadata.imageUrl(), prices);
+    }
+
     // business methods
 
     public void updatePrices(LastKnownPrices newPrices) {
@@ -0,0 +1,11 @@
+package edu.itba.cryptotracker.domain.entity.crypto;
+
+// Lo que describe a una crypto y casi nunca cambia (nombre, símbolo, imagen).
+// Se refresca aparte de LastKnownPrices, que cambia todo el tiempo
+public record CryptoMetadata(
+    String id,          // Coingecko ID (e.g., "bitcoin")
+    String symbol,      // as listed by Coingecko (e.g., "btc")
+    String name,
+    String imageUrl
+) {
+}
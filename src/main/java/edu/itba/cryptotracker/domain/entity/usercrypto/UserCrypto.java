@@ -18,17 +18,22 @@ public class UserCrypto {
     private BigDecimal quantity; // can be updated hence not final -> should we make sure this is bigger than 0
     private final String platformId;  // Reference to Platform aggregate
     private final String cryptoId;    // Reference to Crypto aggregate (Coingecko ID)
+    // Optimistic lock version from persistence: null until first saved. A write carrying a
+    // stale version fails instead of overwriting a concurrent one
+    private final Long version;
 
     // should this be enforcing fail-fast validation? or should we suppose that when it is being created, its already enforced in layers above?
     // shouldn't i be presupposing that when this is called, the layer above had made sure it's passing the correct params?
     public static UserCrypto create(String userId, BigDecimal quantity, String platformId, String cryptoId) {
-        return new UserCrypto(UUID.randomUUID(), userId, quantity.setScale(2, RoundingMode.HALF_UP), platformId, cryptoId);
+        // crypto ids are Coingecko ids, stored lowercase like Crypto.create does
+        return new UserCrypto(UUID.randomUUID(), userId, quantity.setScale(2, RoundingMode.HALF_UP), platformId,
+            cryptoId.toLowerCase(), null);
     }
 
     // Factory method to reconstitute from persistence
     public static UserCrypto reconstitute(UUID id, String userId, BigDecimal quantity,
-                                          String platformId, String cryptoId) {
-        return new UserCrypto(id, userId, quantity, platformId, cryptoId);
+                                          String platformId, String cryptoId, Long version) {
+        return new UserCrypto(id, userId, quantity, platformId, cryptoId, version);
     }
 
     public void updateQuantity(BigDecimal newQuantity) {
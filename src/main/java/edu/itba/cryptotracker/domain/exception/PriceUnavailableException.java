@@ -0,0 +1,8 @@
+package edu.itba.cryptotracker.domain.exception;
+
+// El proveedor no pudo dar un precio: distinto de "no existe", y nunca se guarda como precio cero
+public class PriceUnavailableException extends ExternalApiException {
+    public PriceUnavailableException(String cryptoId) {
+        super("Price unavailable for: " + cryptoId);
+    }
+}
@@ -0,0 +1,34 @@
+package edu.itba.cryptotracker.domain.gateway;
+
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port for the locally stored catalogue of every coin the provider lists.
+ * Searching it never goes to the network.
+ */
+public interface CryptoCatalogGateway {
+
+    /**
+     * Searches by symbol prefix and (typo-tolerant) name, best match first,
+     * ties broken by market cap rank.
+     */
+    List<CryptoListingModel> search(String query, int limit);
+
+    /**
+     * Returns the best ranked coins by market cap.
+     */
+    List<CryptoListingModel> findTopRanked(int limit);
+
+    /**
+     * Counts the coins in the catalogue.
+     */
+    long count();
+
+    /**
+     * Replaces the whole catalogue with the given coins.
+     */
+    void replaceAll(Collection<CryptoListingModel> listings);
+}
@@ -1,8 +1,12 @@
 package edu.itba.cryptotracker.domain.gateway;
 
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CryptoProviderGateway {
@@ -10,12 +14,51 @@ public interface CryptoProviderGateway {
      * Fetches complete crypto data from external API (Coingecko).
      *
      * @param coingeckoId The Coingecko ID (e.g., "bitcoin", "ethereum")
-     * @return Optional containing the crypto if found, empty otherwise
+     * @return Optional containing the crypto if found, empty when the provider doesn't know the ID
+     * @throws edu.itba.cryptotracker.domain.exception.ExternalApiException when the provider
+     * can't be reached, or PriceUnavailableException when it can't price the crypto
      *
      * The adapter handles calling necessary endpoints and assembling
-     * the complete Crypto entity.
+     * the complete Crypto entity: its metadata (name, symbol, image) plus
+     * the prices of {@link #fetchPrices}. Only needed the first time a crypto is
+     * seen; refreshing a known one only takes fetchPrices.
      */
     Optional<Crypto> fetchCrypto(String coingeckoId);
+
+    /**
+     * Fetches the current prices for many cryptos at once.
+     *
+     * @param coingeckoIds Coingecko IDs to price (e.g., "bitcoin", "ethereum")
+     * @return prices keyed by normalized Coingecko ID. IDs the provider could not
+     * price are absent from the map.
+     *
+     * The adapter groups IDs into as few upstream requests as possible, each
+     * one a lightweight price-only call.
+     */
+    Map<String, LastKnownPrices> fetchPrices(Collection<String> coingeckoIds);
+
+    /**
+     * Returns the leading IDs that {@link #fetchPrices} can price in at most
+     * maxRequests upstream requests, keeping their order.
+     */
+    List<String> limitToPriceRequests(List<String> coingeckoIds, int maxRequests);
+
+    /**
+     * Fetches complete crypto data for the given ids, keeping their order.
+     * IDs the provider does not know or can't currently price are left out.
+     */
+    List<Crypto> fetchCryptos(List<String> coingeckoIds);
+
+    /**
+     * Fetches every coin the provider lists (id, symbol and name only).
+     */
+    List<CryptoListingModel> fetchCoinList();
+
+    /**
+     * Fetches the market cap rank of the top count coins, keyed by Coingecko ID.
+     */
+    Map<String, Integer> fetchMarketCapRanks(int count);
+
     List<Crypto> searchCryptos(String query, int limit);
     List<Crypto> fetchTopCryptos(int limit);
 }
@@ -1,18 +1,47 @@
 package edu.itba.cryptotracker.domain.gateway;
 
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CryptoRepositoryGateway {
     void save(Crypto crypto);
 
     /**
-     * Finds crypto by Coingecko ID (primary key).
+     * Finds a stored crypto by Coingecko ID (primary key). Never calls the provider:
+     * fetching unknown cryptos is up to CryptoQueryUseCase#findById.
      * @param coingeckoId The Coingecko ID (e.g., "bitcoin", "ethereum")
      */
     Optional<Crypto> findById(String coingeckoId);
 
     List<Crypto> findAll();
+
+    /**
+     * Finds the stored cryptos with the given ids in one query; unknown ids are skipped.
+     */
+    List<Crypto> findAllByIds(Collection<String> coingeckoIds);
+
+    /**
+     * Searches the stored cryptos by symbol prefix or name, without going to the provider.
+     * A blank query matches every stored crypto.
+     */
+    List<Crypto> search(String query, int limit);
+
+    /**
+     * Ids of the cryptos last updated before the threshold, oldest first.
+     */
+    List<String> findStaleIds(Instant updatedBefore, int limit);
+
+    long countStale(Instant updatedBefore);
+
+    /**
+     * Writes the given prices in one batch.
+     * @return number of cryptos updated
+     */
+    int updatePrices(Map<String, LastKnownPrices> pricesById, Instant updatedAt);
 }
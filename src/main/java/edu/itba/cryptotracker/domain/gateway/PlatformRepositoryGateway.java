@@ -18,7 +18,8 @@ public interface PlatformRepositoryGateway {
     List<Platform> findAll();
 
     /**
-     * Finds a platform by its ID.
+     * Finds a platform by its ID, trimmed and lowercased, fetching it from the
+     * provider when it isn't stored yet.
      */
     Optional<Platform> findById(String id);
 
@@ -27,6 +28,11 @@ public interface PlatformRepositoryGateway {
      */
 //    Optional<Platform> findByName(String name);
 
+    /**
+     * Searches platforms by id or name, best match first.
+     */
+    List<Platform> search(String query, int limit);
+
     /**
      * Finds all platforms by their IDs.
      */
@@ -37,6 +43,11 @@ public interface PlatformRepositoryGateway {
      */
 //    Platform save(Platform platform);
 
+    /**
+     * Saves the given platforms, inserting new ones and updating existing ones.
+     */
+    void saveAll(Collection<Platform> platforms);
+
     /**
      * Deletes a platform.
      */
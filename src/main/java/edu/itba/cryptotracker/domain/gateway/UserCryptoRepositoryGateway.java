@@ -1,10 +1,16 @@
 package edu.itba.cryptotracker.domain.gateway;
 
 import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
+import edu.itba.cryptotracker.domain.model.CryptoHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.HoldingDeltaModel;
+import edu.itba.cryptotracker.domain.model.PlatformHoldingTotalsModel;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserCryptoRepositoryGateway {
@@ -15,6 +21,11 @@ public interface UserCryptoRepositoryGateway {
 
     Optional<UserCrypto> findById(UUID id);
 
+    /**
+     * Finds the holdings with the given ids in one query. Missing ids are absent from the result.
+     */
+    List<UserCrypto> findAllByIds(Collection<UUID> ids);
+
     List<UserCrypto> findAllByCryptoId(String cryptoId);
 
     List<UserCrypto> findAllByPlatformId(String platformId);
@@ -23,11 +34,68 @@ public interface UserCryptoRepositoryGateway {
 
     Optional<UserCrypto> findByUserIdAndCryptoIdAndPlatformId(String userId, String cryptoId, String platformId);
 
+    /**
+     * Holdings of any of the users, of any of the cryptos, on any of the platforms, in one query.
+     */
+    List<UserCrypto> findAllByUserIdsAndCryptoIdsAndPlatformIds(
+        Collection<String> userIds, Collection<String> cryptoIds, Collection<String> platformIds);
+
     List<UserCrypto> findAll();
 
     void deleteById(UUID id);
 
     void deleteAll(List<UserCrypto> userCryptos);
 
+    /**
+     * Subtracts delta only if the holding still has at least that much, checked and
+     * applied by the same statement. Returns false if the balance was insufficient
+     * or the holding does not exist.
+     */
+    boolean subtractQuantityIfSufficient(UUID id, BigDecimal delta);
+
+    /**
+     * Adds delta to the user's holding of the crypto on the platform, creating it if
+     * missing, and returns its id.
+     */
+    UUID addQuantityOrCreate(String userId, String cryptoId, String platformId, BigDecimal delta);
+
+    /**
+     * Deletes the holding if its balance is zero. Returns whether it was deleted.
+     */
+    boolean deleteIfEmpty(UUID id);
+
+    /**
+     * Batched {@link #subtractQuantityIfSufficient}. Returns the ids that could not be
+     * confirmed as subtracted from, including any the driver reported no row count for;
+     * callers must roll back if it isn't empty.
+     */
+    Set<UUID> subtractQuantitiesIfSufficient(Map<UUID, BigDecimal> deltas);
+
+    /**
+     * Batched {@link #addQuantityOrCreate}.
+     */
+    void addQuantitiesOrCreate(Collection<HoldingDeltaModel> deltas);
+
+    /**
+     * Batched {@link #deleteIfEmpty}.
+     */
+    void deleteAllIfEmpty(Collection<UUID> ids);
+
     public BigDecimal sumQuantityByCrypto(final String cryptoId);
+
+    /**
+     * Quantity held per crypto for the given ids in one grouped query.
+     * Ids without holdings are absent from the result.
+     */
+    Map<String, BigDecimal> sumQuantityByCryptoIds(Collection<String> cryptoIds);
+
+    /**
+     * Holdings summed and valued per crypto by the database, unrounded.
+     */
+    List<CryptoHoldingTotalsModel> sumHoldingsByCrypto();
+
+    /**
+     * Holdings valued and summed per platform by the database, unrounded.
+     */
+    List<PlatformHoldingTotalsModel> sumHoldingsByPlatform();
 }
@@ -0,0 +1,16 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain model for a value expressed in the three tracked currencies.
+ */
+public record BalancesModel(
+    BigDecimal usd,
+    BigDecimal eur,
+    BigDecimal btc
+) {
+    public static BalancesModel zero() {
+        return new BalancesModel(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
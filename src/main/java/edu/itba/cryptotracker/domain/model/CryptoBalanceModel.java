@@ -0,0 +1,17 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain model for the value of one crypto across all platforms.
+ *
+ * @param percentage share of the portfolio's USD value, 0-100
+ */
+public record CryptoBalanceModel(
+    String cryptoId,
+    String symbol,
+    String name,
+    BigDecimal quantity,
+    BalancesModel balances,
+    BigDecimal percentage
+) {}
@@ -0,0 +1,15 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain model for the summed holdings of one crypto, valued at its last known prices.
+ * Symbol and name are null when the crypto has no stored row; its value is then zero.
+ */
+public record CryptoHoldingTotalsModel(
+    String cryptoId,
+    String symbol,
+    String name,
+    BigDecimal quantity,
+    BalancesModel value
+) {}
@@ -0,0 +1,22 @@
+package edu.itba.cryptotracker.domain.model;
+
+/**
+ * Domain model for an entry of the local crypto catalogue.
+ * Lightweight: no prices, just enough to search and rank coins offline.
+ *
+ * @param id            Coingecko ID (e.g., "bitcoin")
+ * @param symbol        ticker symbol as listed by Coingecko (e.g., "btc")
+ * @param name          display name (e.g., "Bitcoin")
+ * @param marketCapRank market cap rank, null for coins outside the ranked top
+ */
+public record CryptoListingModel(
+    String id,
+    String symbol,
+    String name,
+    Integer marketCapRank
+) {
+
+    public CryptoListingModel withMarketCapRank(Integer rank) {
+        return new CryptoListingModel(id, symbol, name, rank);
+    }
+}
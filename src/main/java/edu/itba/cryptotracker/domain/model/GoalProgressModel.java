@@ -0,0 +1,27 @@
+package edu.itba.cryptotracker.domain.model;
+
+import edu.itba.cryptotracker.domain.entity.goal.Goal;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain response model for a goal with its progress against the quantity currently held.
+ */
+public record GoalProgressModel(
+    Goal goal,
+    BigDecimal actualQuantity,
+    float progressPercent,
+    BigDecimal remainingQuantity,
+    BigDecimal moneyNeededUsd
+) {
+    public static GoalProgressModel of(final Goal goal, final BigDecimal actualQuantity) {
+        final var remaining = goal.getRemainingQuantity(actualQuantity);
+        return new GoalProgressModel(
+            goal,
+            actualQuantity,
+            goal.getProgress(actualQuantity),
+            remaining,
+            goal.getMoneyNeeded(remaining)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantity to add to a user's holding of a crypto on a platform, which may not exist yet.
+ * Pure domain model - no validation annotations.
+ */
+public record HoldingDeltaModel(
+    String userId,
+    String cryptoId,
+    String platformId,
+    BigDecimal quantity
+) {}
@@ -0,0 +1,14 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain model for the value held on one platform.
+ *
+ * @param percentage share of the portfolio's USD value, 0-100
+ */
+public record PlatformBalanceModel(
+    String platformId,
+    BalancesModel balances,
+    BigDecimal percentage
+) {}
@@ -0,0 +1,9 @@
+package edu.itba.cryptotracker.domain.model;
+
+/**
+ * Domain model for the summed value of the holdings on one platform.
+ */
+public record PlatformHoldingTotalsModel(
+    String platformId,
+    BalancesModel value
+) {}
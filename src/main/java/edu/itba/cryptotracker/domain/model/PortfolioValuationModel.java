@@ -0,0 +1,17 @@
+package edu.itba.cryptotracker.domain.model;
+
+import java.util.List;
+
+/**
+ * Domain response model for the valuation of all holdings at their last known prices.
+ * Cryptos and platforms are sorted by USD value, highest first.
+ */
+public record PortfolioValuationModel(
+    BalancesModel totals,
+    List<CryptoBalanceModel> cryptos,
+    List<PlatformBalanceModel> platforms
+) {
+    public static PortfolioValuationModel empty() {
+        return new PortfolioValuationModel(BalancesModel.zero(), List.of(), List.of());
+    }
+}
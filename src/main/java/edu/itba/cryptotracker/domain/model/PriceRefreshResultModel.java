@@ -0,0 +1,14 @@
+package edu.itba.cryptotracker.domain.model;
+
+/**
+ * Domain response model for a stale price refresh run.
+ *
+ * @param selected  stale cryptos picked for this run
+ * @param refreshed cryptos whose prices were updated
+ * @param backlog   cryptos still stale after the run
+ */
+public record PriceRefreshResultModel(
+    int selected,
+    int refreshed,
+    long backlog
+) {}
@@ -14,4 +14,19 @@ public record TransferCryptoRequestModel(
     BigDecimal quantityToTransfer,
     BigDecimal networkFee,
     Boolean sendFullQuantity
-) {}
+) {
+
+    /**
+     * What leaves the source: the fee is added on top when the full quantity is sent.
+     */
+    public BigDecimal totalToSubtract() {
+        return Boolean.TRUE.equals(sendFullQuantity) ? quantityToTransfer.add(networkFee) : quantityToTransfer;
+    }
+
+    /**
+     * What reaches the destination: the fee is taken from it unless the full quantity is sent.
+     */
+    public BigDecimal quantityToReceive() {
+        return Boolean.TRUE.equals(sendFullQuantity) ? quantityToTransfer : quantityToTransfer.subtract(networkFee);
+    }
+}
@@ -0,0 +1,14 @@
+package edu.itba.cryptotracker.domain.usecase.crypto;
+
+/**
+ * Use case port for rebuilding the local crypto catalogue from the provider.
+ */
+public interface RefreshCryptoCatalogUseCase {
+
+    /**
+     * Replaces the catalogue with the provider's coin list, ranking its top rankedCoins by market cap.
+     *
+     * @return the number of coins stored, 0 when the catalogue was kept as it was
+     */
+    int refreshCatalog(int rankedCoins);
+}
@@ -0,0 +1,17 @@
+package edu.itba.cryptotracker.domain.usecase.crypto;
+
+import edu.itba.cryptotracker.domain.model.PriceRefreshResultModel;
+
+import java.time.Duration;
+
+/**
+ * Use case port for refreshing the prices of stored cryptos that went stale.
+ */
+public interface RefreshStalePricesUseCase {
+
+    /**
+     * Refreshes up to maxCryptos cryptos not updated for staleAfter, oldest first,
+     * spending at most maxRequests requests to the price provider.
+     */
+    PriceRefreshResultModel refreshStalePrices(Duration staleAfter, int maxCryptos, int maxRequests);
+}
@@ -1,9 +1,15 @@
 package edu.itba.cryptotracker.domain.usecase.goal;
 
 import edu.itba.cryptotracker.domain.entity.goal.Goal;
+import edu.itba.cryptotracker.domain.model.GoalProgressModel;
 
 import java.util.List;
 
 public interface ListGoalsUseCase {
     List<Goal> execute();
+
+    /**
+     * Lists all goals with their progress, loading the held quantities of every goal's crypto in bulk.
+     */
+    List<GoalProgressModel> executeWithProgress();
 }
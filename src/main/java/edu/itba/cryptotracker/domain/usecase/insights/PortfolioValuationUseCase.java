@@ -0,0 +1,15 @@
+package edu.itba.cryptotracker.domain.usecase.insights;
+
+import edu.itba.cryptotracker.domain.model.PortfolioValuationModel;
+
+/**
+ * Use case port for valuing the portfolio.
+ */
+public interface PortfolioValuationUseCase {
+
+    /**
+     * Values all holdings at their last known prices, with totals and
+     * per-crypto and per-platform breakdowns.
+     */
+    PortfolioValuationModel valuePortfolio();
+}
@@ -0,0 +1,14 @@
+package edu.itba.cryptotracker.domain.usecase.platform;
+
+/**
+ * Use case port for syncing the stored platforms with the provider's exchange list.
+ */
+public interface RefreshPlatformCatalogUseCase {
+
+    /**
+     * Stores the exchanges that are new or were renamed.
+     *
+     * @return the number of platforms stored
+     */
+    int refreshCatalog();
+}
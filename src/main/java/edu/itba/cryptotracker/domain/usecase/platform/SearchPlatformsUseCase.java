@@ -0,0 +1,21 @@
+package edu.itba.cryptotracker.domain.usecase.platform;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+
+import java.util.List;
+
+/**
+ * Use case port for type-ahead search over the platforms.
+ */
+public interface SearchPlatformsUseCase {
+
+    /**
+     * Returns up to limit platforms whose id or name matches the query, best match first.
+     */
+    List<Platform> search(String query, int limit);
+
+    /**
+     * Returns every platform whose id or name matches the query, best match first.
+     */
+    List<Platform> search(String query);
+}
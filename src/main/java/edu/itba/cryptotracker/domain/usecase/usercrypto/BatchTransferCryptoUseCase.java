@@ -0,0 +1,10 @@
+package edu.itba.cryptotracker.domain.usecase.usercrypto;
+
+import edu.itba.cryptotracker.domain.model.TransferCryptoRequestModel;
+import edu.itba.cryptotracker.domain.model.TransferCryptoResponseModel;
+
+import java.util.List;
+
+public interface BatchTransferCryptoUseCase {
+    List<TransferCryptoResponseModel> execute(List<TransferCryptoRequestModel> transfers);
+}
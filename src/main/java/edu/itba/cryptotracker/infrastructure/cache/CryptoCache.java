@@ -0,0 +1,156 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.application.concurrent.SingleFlight;
+import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.infrastructure.cache.config.CryptoCacheConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriority;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriorityContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded in-process cache of cryptos in front of the database.
+ *
+ * Reads never wait on CoinGecko once a value exists: an entry older than
+ * {@code fresh-for} (see {@link Crypto#needsUpdate}) is returned as-is and a
+ * background refresh of its prices is started. Refreshes run one per id, at
+ * BACKGROUND priority, on a small bounded executor; when the executor is
+ * saturated the refresh is skipped and retried on a later read.
+ *
+ * Crypto is mutable, so entries are copied on the way in and out: a caller
+ * updating the instance it got never changes what other readers see. A
+ * refresh doesn't touch the cache itself; onRefreshed persists it and the
+ * gateway caches it once that commits.
+ */
+@Slf4j
+@Component
+public class CryptoCache {
+
+    private final Cache<String, Crypto> cache;
+    private final CryptoProviderGateway providerGateway;
+    private final CryptoCacheConfig config;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final SingleFlight<String, Crypto> refreshes = new SingleFlight<>();
+
+    public CryptoCache(final Cache<String, Crypto> cryptoJCache,
+                       final CryptoProviderGateway providerGateway,
+                       final CryptoCacheConfig config) {
+        this.cache = cryptoJCache;
+        this.providerGateway = providerGateway;
+        this.config = config;
+        this.refreshExecutor = createRefreshExecutor(config);
+    }
+
+    /**
+     * @param onRefreshed called with the refreshed crypto when a background refresh succeeds
+     */
+    public Optional<Crypto> get(final String coingeckoId, final Consumer<Crypto> onRefreshed) {
+        final var cached = cache.get(coingeckoId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        refreshIfStale(cached, onRefreshed);
+        return Optional.of(copyOf(cached));
+    }
+
+    public void put(final Crypto crypto) {
+        cache.put(crypto.getId(), copyOf(crypto));
+    }
+
+    /**
+     * Caches a crypto read from the database, refreshing it in the background if it is stale.
+     */
+    public void admit(final Crypto crypto, final Consumer<Crypto> onRefreshed) {
+        put(crypto);
+        refreshIfStale(crypto, onRefreshed);
+    }
+
+    public void evict(final String coingeckoId) {
+        cache.remove(coingeckoId);
+    }
+
+    private void refreshIfStale(final Crypto crypto, final Consumer<Crypto> onRefreshed) {
+        if (crypto.getLastUpdatedAt() != null && !crypto.needsUpdate(config.getFreshFor())) {
+            return;
+        }
+
+        refreshes.executeAsync(crypto.getId(), () -> CompletableFuture.supplyAsync(() -> refresh(crypto), refreshExecutor))
+            .thenAccept(refreshed -> {
+                if (refreshed != null) {
+                    onRefreshed.accept(refreshed);
+                }
+            })
+            .exceptionally(error -> {
+                log.debug("Background refresh skipped for {}: {}", crypto.getId(), error.getMessage());
+                return null;
+            });
+    }
+
+    private Crypto refresh(final Crypto stale) {
+        final var prices = RequestPriorityContext.callAs(RequestPriority.BACKGROUND,
+            () -> providerGateway.fetchPrices(List.of(stale.getId())));
+
+        final var latest = prices.get(stale.getId());
+        if (latest == null) {
+            log.debug("No fresh prices for {}, keeping cached value", stale.getId());
+            return null;
+        }
+
+        final var refreshed = new Crypto(
+            stale.getId(),
+            stale.getSymbol(),
+            stale.getName(),
+            stale.getImageUrl(),
+            latest,
+            Instant.now()
+        );
+        log.debug("Refreshed cached prices for {}", stale.getId());
+        return refreshed;
+    }
+
+    private static Crypto copyOf(final Crypto crypto) {
+        return new Crypto(
+            crypto.getId(),
+            crypto.getSymbol(),
+            crypto.getName(),
+            crypto.getImageUrl(),
+            crypto.getLastKnownPrices(),
+            crypto.getLastUpdatedAt()
+        );
+    }
+
+    private static ThreadPoolExecutor createRefreshExecutor(final CryptoCacheConfig config) {
+        final var threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            config.getRefreshThreads(),
+            config.getRefreshThreads(),
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(config.getRefreshQueueSize()),
+            runnable -> {
+                final var thread = new Thread(runnable, "crypto-cache-refresh-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,42 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the search index of the stored crypto catalogue.
+ *
+ * Same approach as {@link PlatformCatalog}: the index is loaded from the
+ * database on first use and replaced atomically after each refresh, so
+ * searches never block on a rebuild.
+ */
+@Component
+public class CryptoCatalog {
+
+    private final AtomicReference<CryptoCatalogIndex> index = new AtomicReference<>();
+
+    /**
+     * Returns the current index, loading it with the given loader on first use.
+     */
+    public CryptoCatalogIndex getOrLoad(final Supplier<List<CryptoListingModel>> loader) {
+        final var current = index.get();
+        if (current != null) {
+            return current;
+        }
+
+        final var loaded = CryptoCatalogIndex.build(loader.get());
+        return index.compareAndSet(null, loaded) ? loaded : index.get();
+    }
+
+    /**
+     * Swaps in an index built from the given catalogue.
+     */
+    public void replace(final Collection<CryptoListingModel> listings) {
+        index.set(CryptoCatalogIndex.build(listings));
+    }
+}
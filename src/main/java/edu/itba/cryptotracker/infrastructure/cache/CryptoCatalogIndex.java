@@ -0,0 +1,237 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable search index over the whole crypto catalogue (~15k coins).
+ *
+ * Coins are stored in market cap order, so a coin's position doubles as its
+ * ranking tie-breaker. Symbols and name words are lowercased once and sorted
+ * for binary-search prefix lookup; when prefixes alone don't fill the limit,
+ * name words within a small edit distance of the query are matched too.
+ *
+ * Results are ranked: exact symbol or name, symbol or name-word prefix,
+ * typo-tolerant name match; then by market cap.
+ */
+public final class CryptoCatalogIndex {
+
+    private static final byte EXACT = 0;
+    private static final byte PREFIX = 1;
+    private static final byte FUZZY = 2;
+    private static final byte NO_MATCH = 3;
+
+    // Queries shorter than this are too ambiguous for typo tolerance
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final int TWO_EDITS_MIN_LENGTH = 8;
+
+    private static final Comparator<CryptoListingModel> BY_MARKET_CAP = Comparator
+        .comparing(CryptoListingModel::marketCapRank, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(listing -> listing.name().length())
+        .thenComparing(CryptoListingModel::id);
+
+    private final List<CryptoListingModel> listings;
+    private final String[] symbols;
+    private final int[] symbolOrder;
+    private final String[] nameWords;
+    private final int[] nameWordOwners;
+    private final boolean[] nameWordIsFullName;
+
+    private CryptoCatalogIndex(final List<CryptoListingModel> listings, final String[] symbols, final int[] symbolOrder,
+                               final String[] nameWords, final int[] nameWordOwners, final boolean[] nameWordIsFullName) {
+        this.listings = listings;
+        this.symbols = symbols;
+        this.symbolOrder = symbolOrder;
+        this.nameWords = nameWords;
+        this.nameWordOwners = nameWordOwners;
+        this.nameWordIsFullName = nameWordIsFullName;
+    }
+
+    public static CryptoCatalogIndex build(final Collection<CryptoListingModel> catalogue) {
+        final List<CryptoListingModel> listings = catalogue.stream().sorted(BY_MARKET_CAP).toList();
+
+        final String[] symbols = listings.stream().map(listing -> normalize(listing.symbol())).toArray(String[]::new);
+        final int[] symbolOrder = IntStream.range(0, symbols.length)
+            .boxed()
+            .sorted(Comparator.comparing(i -> symbols[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        final List<NameWord> words = new ArrayList<>();
+        for (int i = 0; i < listings.size(); i++) {
+            final String name = normalize(listings.get(i).name());
+            if (name.isEmpty()) {
+                continue;
+            }
+            words.add(new NameWord(name, i, true));
+            final String[] parts = name.split("[\\s\\-_.()]+");
+            for (int w = 1; w < parts.length; w++) {
+                if (!parts[w].isEmpty()) {
+                    words.add(new NameWord(parts[w], i, false));
+                }
+            }
+        }
+        words.sort(Comparator.comparing(NameWord::text));
+
+        final boolean[] isFullName = new boolean[words.size()];
+        for (int w = 0; w < isFullName.length; w++) {
+            isFullName[w] = words.get(w).fullName();
+        }
+
+        return new CryptoCatalogIndex(
+            listings,
+            symbols,
+            symbolOrder,
+            words.stream().map(NameWord::text).toArray(String[]::new),
+            words.stream().mapToInt(NameWord::owner).toArray(),
+            isFullName
+        );
+    }
+
+    public List<CryptoListingModel> search(final String query, final int limit) {
+        final String normalizedQuery = query == null ? "" : normalize(query.strip());
+        if (normalizedQuery.isEmpty()) {
+            return top(limit);
+        }
+
+        final byte[] tiers = new byte[listings.size()];
+        Arrays.fill(tiers, NO_MATCH);
+        int matched = 0;
+
+        for (int s = firstSymbolNotBefore(normalizedQuery);
+             s < symbolOrder.length && symbols[symbolOrder[s]].startsWith(normalizedQuery); s++) {
+            final int owner = symbolOrder[s];
+            final byte tier = symbols[owner].length() == normalizedQuery.length() ? EXACT : PREFIX;
+            if (tiers[owner] == NO_MATCH) {
+                matched++;
+            }
+            tiers[owner] = (byte) Math.min(tiers[owner], tier);
+        }
+
+        for (int w = firstNameWordNotBefore(normalizedQuery);
+             w < nameWords.length && nameWords[w].startsWith(normalizedQuery); w++) {
+            final int owner = nameWordOwners[w];
+            final byte tier = nameWordIsFullName[w] && nameWords[w].length() == normalizedQuery.length() ? EXACT : PREFIX;
+            if (tiers[owner] == NO_MATCH) {
+                matched++;
+            }
+            tiers[owner] = (byte) Math.min(tiers[owner], tier);
+        }
+
+        if (matched < limit && normalizedQuery.length() >= FUZZY_MIN_LENGTH) {
+            matchFuzzy(normalizedQuery, tiers);
+        }
+
+        // Positions follow market cap order: walking them once per tier yields the ranked results without sorting
+        final List<CryptoListingModel> result = new ArrayList<>(Math.min(limit, matched));
+        for (byte tier = EXACT; tier < NO_MATCH && result.size() < limit; tier++) {
+            for (int i = 0; i < tiers.length && result.size() < limit; i++) {
+                if (tiers[i] == tier) {
+                    result.add(listings.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<CryptoListingModel> top(final int limit) {
+        return listings.subList(0, Math.min(limit, listings.size()));
+    }
+
+    public int size() {
+        return listings.size();
+    }
+
+    private void matchFuzzy(final String query, final byte[] tiers) {
+        final int maxEdits = query.length() >= TWO_EDITS_MIN_LENGTH ? 2 : 1;
+        final int[] previousRow = new int[query.length() + 1];
+        final int[] currentRow = new int[query.length() + 1];
+
+        for (int w = 0; w < nameWords.length; w++) {
+            final int owner = nameWordOwners[w];
+            if (tiers[owner] != NO_MATCH) {
+                continue;
+            }
+            if (nameWords[w].charAt(0) == query.charAt(0)
+                && startsWithinEdits(query, nameWords[w], maxEdits, previousRow, currentRow)) {
+                tiers[owner] = FUZZY;
+            }
+        }
+    }
+
+    /**
+     * Whether some prefix of word is within maxEdits (Levenshtein) of query.
+     * Rows are passed in so the scan over the catalogue reuses them.
+     */
+    static boolean startsWithinEdits(final String query, final String word, final int maxEdits,
+                                     int[] previousRow, int[] currentRow) {
+        final int queryLength = query.length();
+        for (int j = 0; j <= queryLength; j++) {
+            previousRow[j] = j;
+        }
+
+        final int maxWordLength = Math.min(word.length(), queryLength + maxEdits);
+        for (int i = 1; i <= maxWordLength; i++) {
+            currentRow[0] = i;
+            int rowMin = i;
+            final char wordChar = word.charAt(i - 1);
+            for (int j = 1; j <= queryLength; j++) {
+                final int substitution = previousRow[j - 1] + (wordChar == query.charAt(j - 1) ? 0 : 1);
+                currentRow[j] = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMin = Math.min(rowMin, currentRow[j]);
+            }
+            if (currentRow[queryLength] <= maxEdits) {
+                return true;
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            final int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return false;
+    }
+
+    private int firstSymbolNotBefore(final String query) {
+        int low = 0;
+        int high = symbolOrder.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (symbols[symbolOrder[mid]].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstNameWordNotBefore(final String query) {
+        int low = 0;
+        int high = nameWords.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (nameWords[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record NameWord(String text, int owner, boolean fullName) {
+    }
+}
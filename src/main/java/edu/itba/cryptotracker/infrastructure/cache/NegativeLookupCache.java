@@ -0,0 +1,66 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bounded, short-lived memory of ids CoinGecko answered 404 for.
+ *
+ * Lets the provider gateway reject a repeated lookup of an unknown id without
+ * spending a request. Only real not-found answers are recorded: errors and
+ * rate limiting must not hide ids that exist.
+ *
+ * Lookups are counted in negative.lookup.cache.gets, tagged by kind and
+ * result (hit = rejected without calling CoinGecko).
+ */
+@Component
+public class NegativeLookupCache {
+
+    private static final String METRIC_NAME = "negative.lookup.cache.gets";
+
+    public enum LookupKind {
+        CRYPTO,
+        PLATFORM
+    }
+
+    private final Cache<String, Boolean> cache;
+    private final Map<LookupKind, Counter> hits = new EnumMap<>(LookupKind.class);
+    private final Map<LookupKind, Counter> misses = new EnumMap<>(LookupKind.class);
+
+    public NegativeLookupCache(final Cache<String, Boolean> negativeLookupJCache, final MeterRegistry meterRegistry) {
+        this.cache = negativeLookupJCache;
+
+        for (final LookupKind kind : LookupKind.values()) {
+            hits.put(kind, counter(meterRegistry, kind, "hit"));
+            misses.put(kind, counter(meterRegistry, kind, "miss"));
+        }
+    }
+
+    public boolean isKnownMissing(final LookupKind kind, final String id) {
+        final boolean missing = cache.containsKey(key(kind, id));
+        (missing ? hits : misses).get(kind).increment();
+        return missing;
+    }
+
+    public void recordMissing(final LookupKind kind, final String id) {
+        cache.put(key(kind, id), Boolean.TRUE);
+    }
+
+    private static String key(final LookupKind kind, final String id) {
+        return kind.name() + ':' + id.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final LookupKind kind, final String result) {
+        return Counter.builder(METRIC_NAME)
+            .description("Lookups checked against the cache of ids CoinGecko reported as unknown")
+            .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,84 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Immutable in-memory snapshot of the platforms table.
+ *
+ * Readers always get a complete, unmodifiable list and the search index built
+ * from it. Writers build a new snapshot (and index) and swap it in atomically,
+ * so listing or searching platforms never waits on the database (once loaded)
+ * nor on CoinGecko.
+ */
+@Component
+public class PlatformCatalog {
+
+    private static final Comparator<Platform> BY_ID = Comparator.comparing(Platform::getId);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Returns the current platforms, loading them with the given loader on first use.
+     */
+    public List<Platform> getOrLoad(final Supplier<List<Platform>> loader) {
+        return loaded(loader).platforms();
+    }
+
+    /**
+     * Looks a platform up in the current snapshot, loading it with the given loader on first use.
+     */
+    public Optional<Platform> find(final String id, final Supplier<List<Platform>> loader) {
+        return Optional.ofNullable(loaded(loader).byId().get(id));
+    }
+
+    /**
+     * Returns the search index of the current platforms, loading them with the given loader on first use.
+     */
+    public PlatformSearchIndex searchIndex(final Supplier<List<Platform>> loader) {
+        return loaded(loader).searchIndex();
+    }
+
+    /**
+     * Swaps in a snapshot with the given platforms added or replacing those with the same id.
+     */
+    public void merge(final Collection<Platform> platforms) {
+        snapshot.updateAndGet(current -> {
+            final Map<String, Platform> byId = new LinkedHashMap<>();
+            if (current != null) {
+                current.platforms().forEach(platform -> byId.put(platform.getId(), platform));
+            }
+            platforms.forEach(platform -> byId.put(platform.getId(), platform));
+            return Snapshot.of(byId.values());
+        });
+    }
+
+    private Snapshot loaded(final Supplier<List<Platform>> loader) {
+        final var current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        final var loaded = Snapshot.of(loader.get());
+        return snapshot.compareAndSet(null, loaded) ? loaded : snapshot.get();
+    }
+
+    private record Snapshot(List<Platform> platforms, Map<String, Platform> byId, PlatformSearchIndex searchIndex) {
+
+        static Snapshot of(final Collection<Platform> platforms) {
+            final var sorted = platforms.stream().sorted(BY_ID).toList();
+            final Map<String, Platform> byId = new LinkedHashMap<>();
+            sorted.forEach(platform -> byId.put(platform.getId(), platform));
+            return new Snapshot(sorted, Map.copyOf(byId), PlatformSearchIndex.build(sorted));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable type-ahead index over a platform snapshot.
+ *
+ * All keys are lowercased once at build time. Prefix matches on the id, the
+ * name and each word of the name come from a binary search over the sorted
+ * keys; platforms that only contain the query further inside their id or name
+ * are found by scanning the precomputed lowercase text. Searching allocates
+ * nothing per platform besides the result list.
+ *
+ * Results are ranked: exact id/name match, id/name prefix, word prefix,
+ * substring; ties go to the shorter name.
+ */
+public final class PlatformSearchIndex {
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_PREFIX = 2;
+    private static final int SUBSTRING = 3;
+    private static final int NO_MATCH = 4;
+    private static final int POSITION_MASK = (1 << 21) - 1;
+
+    private final List<Platform> platforms;
+    private final String[] searchableText;
+    private final int[] nameLengths;
+    private final String[] keys;
+    private final int[] keyOwners;
+    private final int[] keyRanks;
+
+    private PlatformSearchIndex(final List<Platform> platforms, final String[] searchableText, final int[] nameLengths,
+                                final String[] keys, final int[] keyOwners, final int[] keyRanks) {
+        this.platforms = platforms;
+        this.searchableText = searchableText;
+        this.nameLengths = nameLengths;
+        this.keys = keys;
+        this.keyOwners = keyOwners;
+        this.keyRanks = keyRanks;
+    }
+
+    public static PlatformSearchIndex build(final Collection<Platform> platforms) {
+        final List<Platform> indexed = List.copyOf(platforms);
+        final String[] searchableText = new String[indexed.size()];
+        final int[] nameLengths = new int[indexed.size()];
+        final List<Key> keys = new ArrayList<>();
+
+        for (int i = 0; i < indexed.size(); i++) {
+            final String id = normalize(indexed.get(i).getId());
+            final String name = normalize(indexed.get(i).getName());
+            searchableText[i] = id + ' ' + name;
+            nameLengths[i] = Math.min(name.length(), POSITION_MASK);
+
+            keys.add(new Key(id, i, PREFIX));
+            keys.add(new Key(name, i, PREFIX));
+            final String[] words = name.split("[\\s\\-_.()]+");
+            for (int w = 1; w < words.length; w++) {
+                if (!words[w].isEmpty()) {
+                    keys.add(new Key(words[w], i, WORD_PREFIX));
+                }
+            }
+        }
+
+        keys.sort(Comparator.comparing(Key::text));
+        return new PlatformSearchIndex(
+            indexed,
+            searchableText,
+            nameLengths,
+            keys.stream().map(Key::text).toArray(String[]::new),
+            keys.stream().mapToInt(Key::owner).toArray(),
+            keys.stream().mapToInt(Key::rank).toArray()
+        );
+    }
+
+    /**
+     * Returns up to limit platforms matching the query, best match first.
+     * A blank query returns the first platforms of the snapshot.
+     */
+    public List<Platform> search(final String query, final int limit) {
+        final String normalizedQuery = query == null ? "" : normalize(query.strip());
+        if (normalizedQuery.isEmpty()) {
+            return platforms.subList(0, Math.min(limit, platforms.size()));
+        }
+
+        final int[] ranks = new int[platforms.size()];
+        Arrays.fill(ranks, NO_MATCH);
+
+        for (int k = firstKeyNotBefore(normalizedQuery); k < keys.length && keys[k].startsWith(normalizedQuery); k++) {
+            final int rank = keyRanks[k] == PREFIX && keys[k].length() == normalizedQuery.length() ? EXACT : keyRanks[k];
+            ranks[keyOwners[k]] = Math.min(ranks[keyOwners[k]], rank);
+        }
+
+        for (int i = 0; i < searchableText.length; i++) {
+            if (ranks[i] == NO_MATCH && searchableText[i].contains(normalizedQuery)) {
+                ranks[i] = SUBSTRING;
+            }
+        }
+
+        // Orden por (rank, largo del nombre, posición) empaquetado en un long: evita boxing y comparators
+        final long[] matches = new long[platforms.size()];
+        int matchCount = 0;
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] != NO_MATCH) {
+                matches[matchCount++] = ((long) ranks[i] << 42) | ((long) nameLengths[i] << 21) | i;
+            }
+        }
+        Arrays.sort(matches, 0, matchCount);
+
+        final List<Platform> result = new ArrayList<>(Math.min(limit, matchCount));
+        for (int m = 0; m < matchCount && result.size() < limit; m++) {
+            result.add(platforms.get((int) (matches[m] & POSITION_MASK)));
+        }
+        return result;
+    }
+
+    private int firstKeyNotBefore(final String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String text, int owner, int rank) {
+    }
+}
@@ -0,0 +1,116 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+
+/**
+ * CoinGecko responses kept with their ETag / Last-Modified validators.
+ *
+ * Resources that rarely change (/coins/{id} metadata, /exchanges/list) are
+ * refreshed with If-None-Match / If-Modified-Since. While they still match,
+ * CoinGecko answers 304 with no body: nothing is downloaded nor deserialized
+ * and the stored copy is handed back instead.
+ *
+ * Revalidations are counted in http.client.revalidation.responses tagged by
+ * result (not_modified / modified), with the 304 ratio in
+ * http.client.revalidation.not.modified.ratio. Bytes not downloaded thanks to
+ * a 304 add up in http.client.revalidation.bytes.saved, using the body size
+ * the transport decoded for the stored response (see HttpResponse#bodyBytes).
+ * Content-Length isn't used: it is the compressed size, or missing, for gzip.
+ */
+@Component
+public class RevalidationCache {
+
+    private static final String METRIC_PREFIX = "http.client.revalidation";
+
+    public record ValidatedResponse(String etag, String lastModified, Object data, long bodyBytes) {
+    }
+
+    private final Cache<String, ValidatedResponse> cache;
+    private final Counter notModified;
+    private final Counter modified;
+    private final Counter bytesSaved;
+
+    public RevalidationCache(final Cache<String, ValidatedResponse> revalidationJCache,
+                             final MeterRegistry meterRegistry) {
+        this.cache = revalidationJCache;
+        this.notModified = responses(meterRegistry, "not_modified");
+        this.modified = responses(meterRegistry, "modified");
+        this.bytesSaved = Counter.builder(METRIC_PREFIX + ".bytes.saved")
+            .description("Response bytes not downloaded because CoinGecko answered 304")
+            .baseUnit(BaseUnits.BYTES)
+            .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".not.modified.ratio", this, RevalidationCache::notModifiedRatio)
+            .description("Share of revalidations CoinGecko answered 304")
+            .register(meterRegistry);
+    }
+
+    // Adds the stored validators, if any, so the host can answer 304
+    public <T> HttpRequest<T> conditional(final HttpRequest<T> request) {
+        final var stored = cache.get(request.endpoint());
+        return stored == null ? request : request.withValidators(stored.etag(), stored.lastModified());
+    }
+
+    /**
+     * Swaps a 304 for the stored body and stores fresh 200s that carry validators.
+     *
+     * A 304 whose entry was evicted in the meantime comes back as is, with no data.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> HttpResponse<T> resolve(final HttpRequest<T> request, final HttpResponse<T> response) {
+        if (response.isNotModified()) {
+            final var stored = cache.get(request.endpoint());
+            if (stored == null) {
+                return response;
+            }
+
+            notModified.increment();
+            bytesSaved.increment(stored.bodyBytes());
+            return new HttpResponse<>((T) stored.data(), response.statusCode(), response.statusMessage(),
+                response.headers());
+        }
+
+        if (response.isError() || response.data() == null) {
+            return response;
+        }
+
+        if (isConditional(request)) {
+            modified.increment();
+        }
+
+        final var etag = response.etag().orElse(null);
+        final var lastModified = response.lastModified().orElse(null);
+        if (etag != null || lastModified != null) {
+            cache.put(request.endpoint(), new ValidatedResponse(etag, lastModified, response.data(),
+                response.bodyBytes().orElse(0L)));
+        } else {
+            cache.remove(request.endpoint());
+        }
+        return response;
+    }
+
+    private double notModifiedRatio() {
+        final double total = notModified.count() + modified.count();
+        return total == 0 ? 0 : notModified.count() / total;
+    }
+
+    private static boolean isConditional(final HttpRequest<?> request) {
+        return request.headers() != null
+            && (request.headers().containsKey("If-None-Match") || request.headers().containsKey("If-Modified-Since"));
+    }
+
+    private static Counter responses(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(METRIC_PREFIX + ".responses")
+            .description("Conditional CoinGecko requests by whether the stored copy was still valid")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
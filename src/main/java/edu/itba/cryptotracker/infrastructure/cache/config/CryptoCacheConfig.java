@@ -0,0 +1,39 @@
+package edu.itba.cryptotracker.infrastructure.cache.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process crypto cache.
+ *
+ * Populated by Spring from application.yml:
+ * crypto.cache.max-entries
+ * crypto.cache.fresh-for
+ * crypto.cache.time-to-live
+ * crypto.cache.refresh-threads
+ *
+ * fresh-for drives Crypto.needsUpdate: older entries are still served but
+ * trigger a background refresh. time-to-live is the hard bound after which
+ * an entry is dropped and the next read goes to the database.
+ */
+@Data
+@Builder
+public class CryptoCacheConfig {
+
+    @Builder.Default
+    private long maxEntries = 1000;
+
+    @Builder.Default
+    private Duration freshFor = Duration.ofMinutes(5);
+
+    @Builder.Default
+    private Duration timeToLive = Duration.ofHours(6);
+
+    @Builder.Default
+    private int refreshThreads = 2;
+
+    @Builder.Default
+    private int refreshQueueSize = 100;
+}
@@ -0,0 +1,26 @@
+package edu.itba.cryptotracker.infrastructure.cache.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of ids CoinGecko reported as unknown.
+ *
+ * Populated by Spring from application.yml:
+ * negative-cache.max-entries
+ * negative-cache.time-to-live
+ *
+ * Kept short-lived so a newly listed coin or exchange becomes visible soon.
+ */
+@Data
+@Builder
+public class NegativeCacheConfig {
+
+    @Builder.Default
+    private long maxEntries = 10_000;
+
+    @Builder.Default
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
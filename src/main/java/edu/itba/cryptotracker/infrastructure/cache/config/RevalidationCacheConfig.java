@@ -0,0 +1,27 @@
+package edu.itba.cryptotracker.infrastructure.cache.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of CoinGecko responses kept for revalidation.
+ *
+ * Populated by Spring from application.yml:
+ * revalidation-cache.max-entries
+ * revalidation-cache.time-to-live
+ *
+ * Entries are never served without asking CoinGecko first, so time-to-live only
+ * bounds how long an unused body stays in memory.
+ */
+@Data
+@Builder
+public class RevalidationCacheConfig {
+
+    @Builder.Default
+    private long maxEntries = 2_000;
+
+    @Builder.Default
+    private Duration timeToLive = Duration.ofHours(24);
+}
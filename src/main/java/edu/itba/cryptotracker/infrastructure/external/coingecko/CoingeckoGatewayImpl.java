@@ -1,64 +1,102 @@
 package edu.itba.cryptotracker.infrastructure.external.coingecko;
 
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.exception.ExternalApiException;
+import edu.itba.cryptotracker.domain.exception.PriceUnavailableException;
 import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import edu.itba.cryptotracker.infrastructure.cache.NegativeLookupCache;
+import edu.itba.cryptotracker.infrastructure.cache.NegativeLookupCache.LookupKind;
+import edu.itba.cryptotracker.infrastructure.cache.RevalidationCache;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.config.CoingeckoApiConfig;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoCoinListItemDTO;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoCryptoInfoDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoExchangeListItemDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoMarketDTO;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoPlatformDTO;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoPricesDTO;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.mapper.CoingeckoApiMapper;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.mapper.CoingeckoJsonDecoders;
 import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
 import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
 import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.domain.entity.crypto.CryptoMetadata;
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
 import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoSearchResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProviderGateway {
 
+    // Upper bounds for a single /simple/price call, keeping the URL well below
+    // the ~2000 chars that proxies and CDNs reliably accept
+    static final int MAX_PRICE_IDS_PER_REQUEST = 250;
+    static final int MAX_PRICE_IDS_LENGTH = 1500;
+
+    // Every price we store is quoted in all three; a partial answer counts as no price
+    static final List<String> QUOTE_CURRENCIES = List.of("usd", "eur", "btc");
+
+    // Largest page /coins/markets serves
+    static final int MARKETS_PAGE_SIZE = 250;
+
     private final HttpClient httpClient;
     private final CoingeckoApiConfig config;
+    private final NegativeLookupCache negativeLookupCache;
+    private final RevalidationCache revalidationCache;
     private final CoingeckoApiMapper mapper = new CoingeckoApiMapper();
 
+    // Empty only when Coingecko doesn't know the id. When it can't be reached, or can't
+    // price the coin, this throws instead of handing out zeros that would be saved as prices
     @Override
     public Optional<Crypto> fetchCrypto(String coingeckoId) {
-        try {
-            log.info("Fetching crypto from Coingecko: {}", coingeckoId);
-
-            final var normalizedId = coingeckoId.toLowerCase();
+        final var normalizedId = coingeckoId.toLowerCase();
 
-            // Fetch info
-            final var infoDTO = fetchCryptoInfo(normalizedId);
-            if (infoDTO == null) {
-                log.warn("Crypto not found in Coingecko: {}", coingeckoId);
-                return Optional.empty();
-            }
+        if (negativeLookupCache.isKnownMissing(LookupKind.CRYPTO, normalizedId)) {
+            log.debug("Crypto {} recently not found, skipping Coingecko", normalizedId);
+            return Optional.empty();
+        }
 
-            // Fetch prices
-            final var pricesDTO = fetchPrices(normalizedId);
-            if (pricesDTO == null) {
-                log.warn("Could not fetch prices for {}, using zeros", coingeckoId);
-                // Podrías usar zeros o retornar empty según tu lógica
-            }
+        log.info("Fetching crypto from Coingecko: {}", coingeckoId);
 
-            final var crypto = mapper.toDomain(infoDTO, pricesDTO);
+        // Metadata y precios son independientes: se piden a la vez y se espera al más lento
+        final var metadataFuture = fetchMetadataAsync(normalizedId);
+        final var pricesFuture = fetchPricesChunkAsync(List.of(normalizedId));
 
-            log.info("Successfully fetched: {} ({})", crypto.getName(), crypto.getSymbol());
-            return Optional.of(crypto);
+        final var metadata = awaitMetadata(normalizedId, metadataFuture);
+        if (metadata.isEmpty()) {
+            log.warn("Crypto not found in Coingecko: {}", coingeckoId);
+            return Optional.empty();
+        }
 
-        } catch (final Exception e) {
-            log.error("Failed to fetch crypto {}: {}", coingeckoId, e.getMessage(), e);
-            return Optional.empty(); //
+        final var prices = pricesFuture.join().get(normalizedId);
+        if (prices == null) {
+            log.warn("No price available for {}", normalizedId);
+            throw new PriceUnavailableException(normalizedId);
         }
+
+        final var crypto = Crypto.create(metadata.get(), prices);
+
+        log.info("Successfully fetched: {} ({})", crypto.getName(), crypto.getSymbol());
+        return Optional.of(crypto);
     }
 
     @Override
@@ -93,20 +131,17 @@ public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProv
                 return List.of();
             }
 
-            // Fetch información completa de cada crypto encontrado
-            log.info("Found {} results, fetching details for top {}",
-                searchResult.getCoins().size(), limit);
-
-            return searchResult.getCoins().stream()
+            final var coingeckoIds = searchResult.getCoins().stream()
+                .map(CoingeckoSearchResultDTO.CoinSearchResult::getId)
+                .filter(Objects::nonNull)
                 .limit(limit)
-                .map(coin -> {
-                    log.debug("Fetching full details for: {}", coin.getId());
-                    return fetchCrypto(coin.getId());
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
                 .toList();
 
+            log.info("Found {} results, fetching market data for top {}",
+                searchResult.getCoins().size(), coingeckoIds.size());
+
+            return fetchCryptos(coingeckoIds);
+
         } catch (Exception e) {
             log.error("Search failed for query '{}': {}", query, e.getMessage(), e);
             return List.of();
@@ -127,43 +162,15 @@ public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProv
 
             log.debug("GET {}", endpoint);
 
-            // Request al endpoint de markets
-            final var request = HttpRequest.<List>builder()
-                .endpoint(endpoint)
-                .responseType(List.class)
-                .onError(List.of())
-                .build();
-
-            final var response = httpClient.get(request);
-
-            if (response.isError() || response.data() == null) {
-                log.error("Markets API error: {} - {}",
-                    response.statusCode(), response.statusMessage());
-                return List.of();
-            }
-
-            // Parsear respuesta y fetch detalles completos
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> marketData = (List<Map<String, Object>>) response.data();
-
-            if (marketData.isEmpty()) {
+            final var markets = requestMarkets(endpoint);
+            if (markets.isEmpty()) {
                 log.warn("Empty market data received");
                 return List.of();
             }
 
-            log.info("Received {} cryptos from markets endpoint", marketData.size());
+            log.info("Received {} cryptos from markets endpoint", markets.size());
 
-            // Fetch información completa de cada crypto
-            return marketData.stream()
-                .limit(limit)
-                .map(data -> {
-                    String cryptoId = (String) data.get("id");
-                    log.debug("Fetching full details for: {}", cryptoId);
-                    return fetchCrypto(cryptoId);
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+            return toCryptos(markets.stream().limit(limit).toList());
 
         } catch (Exception e) {
             log.error("Fetch top cryptos failed: {}", e.getMessage(), e);
@@ -171,72 +178,330 @@ public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProv
         }
     }
 
-    private CoingeckoCryptoInfoDTO fetchCryptoInfo(final String coingeckoId) {
-        try {
-            final var endpoint = String.format("%s/coins/%s", config.getBaseUrl(), coingeckoId);
-            log.debug("GET {}", endpoint);
+    // Builds the cryptos for the given ids from one /coins/markets call, keeping the ids order.
+    // The ids are known up front, so the batched prices are requested alongside the markets
+    @Override
+    public List<Crypto> fetchCryptos(final List<String> coingeckoIds) {
+        if (coingeckoIds.isEmpty()) {
+            return List.of();
+        }
 
-            final var request = HttpRequest.<CoingeckoCryptoInfoDTO>builder()
-                .endpoint(endpoint)
-                .responseType(CoingeckoCryptoInfoDTO.class)
-                .onError(null)
-                .build();
+        final var endpoint = String.format(
+            "%s/coins/markets?vs_currency=usd&ids=%s&per_page=%d&page=1&sparkline=false",
+            config.getBaseUrl(),
+            String.join(",", coingeckoIds),
+            coingeckoIds.size()
+        );
 
-            final var response = httpClient.get(request);
+        log.debug("GET {}", endpoint);
 
-            if (response.isError()) {
-                log.error("Coingecko API error fetching info for {}: {} - {}",
-                    coingeckoId, response.statusCode(), response.statusMessage());
-                return null;
-            }
+        final var marketsFuture = requestMarketsAsync(endpoint);
+        final var pricesFuture = fetchPricesAsync(coingeckoIds);
 
-            return response.data();
+        final var marketsById = marketsFuture.join().stream()
+            .collect(Collectors.toMap(CoingeckoMarketDTO::getId, Function.identity(), (first, second) -> first));
 
-        } catch (Exception e) {
-            log.error("Exception fetching crypto info for {}: {}", coingeckoId, e.getMessage(), e);
-            return null;
+        final var markets = coingeckoIds.stream()
+            .map(marketsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return toCryptos(markets, pricesFuture.join());
+    }
+
+    @Override
+    public List<CryptoListingModel> fetchCoinList() {
+        log.info("Fetching coin list from Coingecko");
+
+        final var endpoint = String.format("%s/coins/list", config.getBaseUrl());
+
+        final var request = HttpRequest.<CoingeckoCoinListItemDTO[]>builder()
+            .endpoint(endpoint)
+            .responseType(CoingeckoCoinListItemDTO[].class)
+            .onError(new CoingeckoCoinListItemDTO[0])
+            .build();
+
+        final var response = httpClient.get(request);
+
+        if (response.isError() || response.data() == null) {
+            log.error("Coin list API error: {} - {}",
+                response.statusCode(), response.statusMessage());
+            return List.of();
         }
+
+        return Arrays.stream(response.data())
+            .filter(Objects::nonNull)
+            .filter(dto -> dto.getId() != null && dto.getSymbol() != null && dto.getName() != null)
+            .map(mapper::toListing)
+            .toList();
     }
 
-    private CoingeckoPricesDTO fetchPrices(final String coingeckoId) {
-        try {
+    @Override
+    public Map<String, Integer> fetchMarketCapRanks(final int count) {
+        final Map<String, Integer> ranks = new HashMap<>();
+        final int pages = (count + MARKETS_PAGE_SIZE - 1) / MARKETS_PAGE_SIZE;
+
+        for (int page = 1; page <= pages; page++) {
             final var endpoint = String.format(
-                "%s/simple/price?ids=%s&vs_currencies=usd,eur,btc",
+                "%s/coins/markets?vs_currency=usd&order=market_cap_desc&per_page=%d&page=%d&sparkline=false",
                 config.getBaseUrl(),
-                coingeckoId
+                MARKETS_PAGE_SIZE,
+                page
             );
-            log.debug("GET {}", endpoint);
-
-            final var request = HttpRequest.<Map>builder()
-                .endpoint(endpoint)
-                .responseType(Map.class)
-                .onError(Map.of())
-                .build();
 
-            final var response = httpClient.get(request);
+            final var markets = requestMarkets(endpoint);
+            for (int i = 0; i < markets.size() && ranks.size() < count; i++) {
+                final var market = markets.get(i);
+                // market_cap_rank viene null para algunas monedas: se usa la posición en el listado
+                final int position = (page - 1) * MARKETS_PAGE_SIZE + i + 1;
+                ranks.putIfAbsent(market.getId(),
+                    market.getMarketCapRank() != null ? market.getMarketCapRank() : position);
+            }
 
-            if (response.isError()) {
-                log.error("Coingecko API error fetching prices for {}: {} - {}",
-                    coingeckoId, response.statusCode(), response.statusMessage());
-                return mapper.createZeroPrices();
+            if (markets.size() < MARKETS_PAGE_SIZE) {
+                break;
             }
+        }
+
+        log.info("Fetched market cap ranks for {} cryptos", ranks.size());
+        return ranks;
+    }
+
+    private List<CoingeckoMarketDTO> requestMarkets(final String endpoint) {
+        return toMarkets(httpClient.get(marketsRequest(endpoint)));
+    }
 
-            if (response.data() == null || !response.data().containsKey(coingeckoId)) {
-                log.warn("Empty price data for: {}, using zeros", coingeckoId);
-                return mapper.createZeroPrices();
+    private CompletableFuture<List<CoingeckoMarketDTO>> requestMarketsAsync(final String endpoint) {
+        return httpClient.getAsync(marketsRequest(endpoint))
+            .thenApply(this::toMarkets)
+            .exceptionally(e -> {
+                log.error("Exception fetching markets: {}", e.getMessage(), e);
+                return List.of();
+            });
+    }
+
+    private static HttpRequest<CoingeckoMarketDTO[]> marketsRequest(final String endpoint) {
+        return HttpRequest.<CoingeckoMarketDTO[]>builder()
+            .endpoint(endpoint)
+            .responseType(CoingeckoMarketDTO[].class)
+            .onError(new CoingeckoMarketDTO[0])
+            .build();
+    }
+
+    private List<CoingeckoMarketDTO> toMarkets(final HttpResponse<CoingeckoMarketDTO[]> response) {
+        if (response.isError() || response.data() == null) {
+            log.error("Markets API error: {} - {}",
+                response.statusCode(), response.statusMessage());
+            return List.of();
+        }
+
+        return Arrays.stream(response.data())
+            .filter(Objects::nonNull)
+            .filter(dto -> dto.getId() != null && dto.getSymbol() != null && dto.getName() != null)
+            .toList();
+    }
+
+    // /coins/markets quotes a single currency, so EUR and BTC come from one batched /simple/price call
+    private List<Crypto> toCryptos(final List<CoingeckoMarketDTO> markets) {
+        return toCryptos(markets, fetchPrices(markets.stream().map(CoingeckoMarketDTO::getId).toList()));
+    }
+
+    // Cryptos without a full price are left out rather than built with made-up zeros
+    private List<Crypto> toCryptos(final List<CoingeckoMarketDTO> markets, final Map<String, LastKnownPrices> prices) {
+        final var cryptos = markets.stream()
+            .filter(dto -> prices.containsKey(dto.getId().toLowerCase()))
+            .map(dto -> mapper.toDomain(dto, prices.get(dto.getId().toLowerCase())))
+            .toList();
+
+        if (cryptos.size() < markets.size()) {
+            log.warn("No prices for {} of {} cryptos, leaving them out", markets.size() - cryptos.size(), markets.size());
+        }
+        return cryptos;
+    }
+
+    @Override
+    public Map<String, LastKnownPrices> fetchPrices(final Collection<String> coingeckoIds) {
+        return fetchPricesAsync(coingeckoIds).join();
+    }
+
+    @Override
+    public List<String> limitToPriceRequests(final List<String> coingeckoIds, final int maxRequests) {
+        if (coingeckoIds == null || maxRequests <= 0) {
+            return List.of();
+        }
+
+        return chunkIds(normalizePriceIds(coingeckoIds)).stream()
+            .limit(maxRequests)
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    // Chunks are requested concurrently; the rate limiter still paces them per host
+    private CompletableFuture<Map<String, LastKnownPrices>> fetchPricesAsync(final Collection<String> coingeckoIds) {
+        if (coingeckoIds == null || coingeckoIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        final var normalizedIds = normalizePriceIds(coingeckoIds);
+        final var chunks = chunkIds(normalizedIds);
+        log.info("Fetching prices for {} cryptos in {} request(s)", normalizedIds.size(), chunks.size());
+
+        final var futures = chunks.stream()
+            .map(this::fetchPricesChunkAsync)
+            .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> {
+                final Map<String, LastKnownPrices> prices = new HashMap<>();
+                futures.forEach(future -> prices.putAll(future.join()));
+                return prices;
+            });
+    }
+
+    private static List<String> normalizePriceIds(final Collection<String> coingeckoIds) {
+        return coingeckoIds.stream()
+            .filter(id -> id != null && !id.isBlank())
+            .map(id -> id.toLowerCase().trim())
+            .distinct()
+            .toList();
+    }
+
+    // Splits ids into groups that fit in a single /simple/price URL
+    static List<List<String>> chunkIds(final List<String> ids) {
+        final List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentLength = 0;
+
+        for (final var id : ids) {
+            final int separatorLength = current.isEmpty() ? 0 : 1;
+            final boolean full = current.size() >= MAX_PRICE_IDS_PER_REQUEST
+                || currentLength + separatorLength + id.length() > MAX_PRICE_IDS_LENGTH;
+
+            if (!current.isEmpty() && full) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentLength = 0;
             }
 
-            final var pricesMap = (Map<String, Object>) response.data().get(coingeckoId);
-            return mapper.toPricesDTO(pricesMap);
+            currentLength += (current.isEmpty() ? 0 : 1) + id.length();
+            current.add(id);
+        }
 
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+
+        return chunks;
+    }
+
+    private CompletableFuture<Map<String, LastKnownPrices>> fetchPricesChunkAsync(final List<String> coingeckoIds) {
+        try {
+            return httpClient.getAsync(pricesRequest(coingeckoIds))
+                .thenApply(response -> toLastKnownPrices(coingeckoIds, response))
+                .exceptionally(e -> {
+                    log.error("Exception fetching prices for {} ids: {}", coingeckoIds.size(), e.getMessage(), e);
+                    return Map.of();
+                });
         } catch (Exception e) {
-            log.error("Exception fetching prices for {}: {}", coingeckoId, e.getMessage(), e);
-            return mapper.createZeroPrices();
+            log.error("Exception fetching prices for {} ids: {}", coingeckoIds.size(), e.getMessage(), e);
+            return CompletableFuture.completedFuture(Map.of());
+        }
+    }
+
+    private HttpRequest<Map<String, CoingeckoPricesDTO>> pricesRequest(final List<String> coingeckoIds) {
+        final var endpoint = String.format(
+            "%s/simple/price?ids=%s&vs_currencies=%s",
+            config.getBaseUrl(),
+            String.join(",", coingeckoIds),
+            String.join(",", QUOTE_CURRENCIES)
+        );
+        log.debug("GET {}", endpoint);
+
+        return HttpRequest.<Map<String, CoingeckoPricesDTO>>builder()
+            .endpoint(endpoint)
+            .decoder(CoingeckoJsonDecoders.prices())
+            .onError(Map.of())
+            .build();
+    }
+
+    private Map<String, LastKnownPrices> toLastKnownPrices(final List<String> coingeckoIds,
+                                                           final HttpResponse<Map<String, CoingeckoPricesDTO>> response) {
+        if (response.isError() || response.data() == null) {
+            log.error("Coingecko API error fetching prices for {} ids: {} - {}",
+                coingeckoIds.size(), response.statusCode(), response.statusMessage());
+            return Map.of();
+        }
+
+        final Map<String, LastKnownPrices> prices = new HashMap<>();
+        for (final var coingeckoId : coingeckoIds) {
+            final var pricesDTO = response.data().get(coingeckoId);
+            if (pricesDTO != null && pricesDTO.isComplete()) {
+                prices.put(coingeckoId, mapper.toLastKnownPrices(pricesDTO));
+            } else {
+                log.warn("No price data returned for: {}", coingeckoId);
+            }
+        }
+
+        return prices;
+    }
+
+    // Name, symbol and image barely change: a stored copy is revalidated instead of downloaded again.
+    // /coins/{id} also carries descriptions in every language, tickers and market, community and
+    // developer data; none of it is used, so it is turned off
+    private CompletableFuture<Optional<CryptoMetadata>> fetchMetadataAsync(final String coingeckoId) {
+        final var endpoint = String.format(
+            "%s/coins/%s?localization=false&tickers=false&market_data=false"
+                + "&community_data=false&developer_data=false&sparkline=false",
+            config.getBaseUrl(),
+            coingeckoId
+        );
+        log.debug("GET {}", endpoint);
+
+        final var request = revalidationCache.conditional(HttpRequest.<CoingeckoCryptoInfoDTO>builder()
+            .endpoint(endpoint)
+            .responseType(CoingeckoCryptoInfoDTO.class)
+            .onError(null)
+            .build());
+
+        return httpClient.getAsync(request)
+            .thenApply(response -> toCryptoInfo(coingeckoId, revalidationCache.resolve(request, response))
+                .map(mapper::toMetadata));
+    }
+
+    private static Optional<CryptoMetadata> awaitMetadata(final String coingeckoId,
+                                                          final CompletableFuture<Optional<CryptoMetadata>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof ExternalApiException apiError
+                ? apiError
+                : new ExternalApiException("Failed to fetch crypto " + coingeckoId, e.getCause());
         }
     }
 
+    private Optional<CoingeckoCryptoInfoDTO> toCryptoInfo(final String coingeckoId,
+                                                          final HttpResponse<CoingeckoCryptoInfoDTO> response) {
+        if (response.isNotFound()) {
+            negativeLookupCache.recordMissing(LookupKind.CRYPTO, coingeckoId);
+            return Optional.empty();
+        }
+
+        if (response.isError() || response.data() == null) {
+            log.error("Coingecko API error fetching info for {}: {} - {}",
+                coingeckoId, response.statusCode(), response.statusMessage());
+            throw new ExternalApiException("Coingecko answered " + response.statusCode() + " for " + coingeckoId);
+        }
+
+        return Optional.of(response.data());
+    }
+
     @Override
     public Optional<Platform> fetchExchange(String exchangeId) {
+        if (negativeLookupCache.isKnownMissing(LookupKind.PLATFORM, exchangeId)) {
+            log.debug("Exchange {} recently not found, skipping Coingecko", exchangeId);
+            return Optional.empty();
+        }
+
         try {
             log.info("Fetching exchange from Coingecko: {}", exchangeId);
 
@@ -253,6 +518,12 @@ public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProv
 
             final var response = httpClient.get(request);
 
+            if (response.isNotFound()) {
+                log.info("Exchange not found in Coingecko: {}", exchangeId);
+                negativeLookupCache.recordMissing(LookupKind.PLATFORM, exchangeId);
+                return Optional.empty();
+            }
+
             if (response.isError()) {
                 log.error("Coingecko API error fetching exchange {}: {} - {}",
                     exchangeId, response.statusCode(), response.statusMessage());
@@ -289,25 +560,22 @@ public class CoingeckoGatewayImpl implements CryptoProviderGateway, PlatformProv
 
             final var endpoint = String.format("%s/exchanges/list", config.getBaseUrl());
 
-            final var request = HttpRequest.<List>builder()
+            final var request = revalidationCache.conditional(HttpRequest.<List<CoingeckoExchangeListItemDTO>>builder()
                 .endpoint(endpoint)
-                .responseType(List.class)
+                .decoder(CoingeckoJsonDecoders.exchangeList())
                 .onError(List.of())
-                .build();
+                .build());
 
-            final var response = httpClient.get(request);
+            // 304: the list hasn't changed since the last refresh and the stored one is reused
+            final var response = revalidationCache.resolve(request, httpClient.get(request));
 
             if (response.isError() || response.data() == null) {
                 log.error("Failed to fetch exchanges list: {} - {}",
                     response.statusCode(), response.statusMessage());
                 return List.of(); }
 
-            return ((List<Map<String, String>>) response.data()).stream()
-                .filter(item -> item.get("id") != null && item.get("name") != null)
-                .map(item -> Platform.create(
-                    item.get("id"),
-                    item.get("name")
-                ))
+            return response.data().stream()
+                .map(mapper::toPlatform)
                 .toList();
 
         } catch (Exception e) {
@@ -9,6 +9,7 @@ import lombok.Data;
  * Populated by Spring from application.yml:
  * coingecko.api.base-url
  * coingecko.api.timeout-seconds
+ * coingecko.api.retry-attempts
  *
  * Located in adapter layer (not boot/config) because it's specific
  * to the Coingecko adapter implementation.
@@ -18,4 +19,5 @@ import lombok.Data;
 public class CoingeckoApiConfig {
     private String baseUrl;
     private int timeoutSeconds;
+    private int retryAttempts;
 }
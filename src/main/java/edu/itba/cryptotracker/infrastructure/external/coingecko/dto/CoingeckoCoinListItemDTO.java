@@ -0,0 +1,12 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko.dto;
+
+import lombok.Data;
+
+// dto para rta de coingecko api
+// endpoint: GET /api/v3/coins/list
+@Data
+public class CoingeckoCoinListItemDTO {
+    private String id;
+    private String symbol;
+    private String name;
+}
@@ -0,0 +1,6 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko.dto;
+
+// dto para rta de coingecko api
+// endpoint: GET /api/v3/exchanges/list
+public record CoingeckoExchangeListItemDTO(String id, String name) {
+}
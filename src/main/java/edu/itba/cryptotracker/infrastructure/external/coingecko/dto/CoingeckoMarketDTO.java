@@ -3,6 +3,10 @@ package edu.itba.cryptotracker.infrastructure.external.coingecko.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
+// dto para rta de coingecko api
+// endpoint: GET /api/v3/coins/markets
 @Data
 public class CoingeckoMarketDTO {
     private String id;
@@ -11,7 +15,7 @@ public class CoingeckoMarketDTO {
     private String image;
 
     @JsonProperty("current_price")
-    private Double currentPrice;
+    private BigDecimal currentPrice;
 
     @JsonProperty("market_cap")
     private Long marketCap;
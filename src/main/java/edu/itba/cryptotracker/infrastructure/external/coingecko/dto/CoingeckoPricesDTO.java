@@ -1,15 +1,11 @@
 package edu.itba.cryptotracker.infrastructure.external.coingecko.dto;
 
 import java.math.BigDecimal;
-import java.util.Map;
 
+// Precios de una moneda en /simple/price; null en las monedas que Coingecko no devolvió
 public record CoingeckoPricesDTO(BigDecimal usd, BigDecimal eur, BigDecimal btc) {
-    // Extrae precios del Map anidado de Coingecko
-    public static CoingeckoPricesDTO fromMap(Map<String, Object> pricesMap) {
-        return new CoingeckoPricesDTO(
-            new BigDecimal(pricesMap.get("usd").toString()),
-            new BigDecimal(pricesMap.get("eur").toString()),
-            new BigDecimal(pricesMap.get("btc").toString())
-        );
+
+    public boolean isComplete() {
+        return usd != null && eur != null && btc != null;
     }
 }
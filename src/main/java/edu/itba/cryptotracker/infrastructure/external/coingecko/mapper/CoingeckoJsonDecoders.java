@@ -0,0 +1,131 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko.mapper;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoExchangeListItemDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoPricesDTO;
+import edu.itba.cryptotracker.infrastructure.httpclient.ResponseDecoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming decoders for the Coingecko bodies that are large or carry prices.
+ *
+ * /exchanges/list returns thousands of items; binding it to List&lt;Map&gt; built a
+ * LinkedHashMap per item only to read two of its fields. These read the tokens
+ * straight into the DTOs and skip everything else.
+ *
+ * Prices are read with getDecimalValue, which parses the number's text, so a
+ * quote like 0.000012345678901234 is kept exactly instead of going through double.
+ */
+public final class CoingeckoJsonDecoders {
+
+    private CoingeckoJsonDecoders() {
+    }
+
+    // [ { "id": "binance", "name": "Binance" }, ... ]
+    public static ResponseDecoder<List<CoingeckoExchangeListItemDTO>> exchangeList() {
+        return CoingeckoJsonDecoders::readExchangeList;
+    }
+
+    // { "bitcoin": { "usd": 50000, "eur": 45000, "btc": 1 }, "ethereum": { ... } }
+    public static ResponseDecoder<Map<String, CoingeckoPricesDTO>> prices() {
+        return CoingeckoJsonDecoders::readPrices;
+    }
+
+    private static List<CoingeckoExchangeListItemDTO> readExchangeList(final JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+
+        final List<CoingeckoExchangeListItemDTO> exchanges = new ArrayList<>();
+        for (var token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                final var exchange = readExchange(parser);
+                if (exchange.id() != null && exchange.name() != null) {
+                    exchanges.add(exchange);
+                }
+            } else {
+                expectValue(parser, token);
+                parser.skipChildren();
+            }
+        }
+        return exchanges;
+    }
+
+    private static CoingeckoExchangeListItemDTO readExchange(final JsonParser parser) throws IOException {
+        String id = null;
+        String name = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "name" -> name = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new CoingeckoExchangeListItemDTO(id, name);
+    }
+
+    private static Map<String, CoingeckoPricesDTO> readPrices(final JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        final Map<String, CoingeckoPricesDTO> prices = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var coingeckoId = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                prices.put(coingeckoId, readCurrencies(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return prices;
+    }
+
+    // Solo usd, eur y btc; el resto de las cotizaciones (y los *_24h_change, etc.) se saltean
+    private static CoingeckoPricesDTO readCurrencies(final JsonParser parser) throws IOException {
+        BigDecimal usd = null;
+        BigDecimal eur = null;
+        BigDecimal btc = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var currency = parser.currentName();
+            parser.nextToken();
+            switch (currency) {
+                case "usd" -> usd = readDecimal(parser);
+                case "eur" -> eur = readDecimal(parser);
+                case "btc" -> btc = readDecimal(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new CoingeckoPricesDTO(usd, eur, btc);
+    }
+
+    private static BigDecimal readDecimal(final JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getDecimalValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static void expect(final JsonParser parser, final JsonToken actual, final JsonToken expected)
+        throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    // A truncated body ends the token stream before the closing bracket
+    private static void expectValue(final JsonParser parser, final JsonToken actual) throws JsonParseException {
+        if (actual == null) {
+            throw new JsonParseException(parser, "Unexpected end of input");
+        }
+    }
+}
@@ -3,6 +3,21 @@ package edu.itba.cryptotracker.infrastructure.httpclient;
 import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
 import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface HttpClient {
+
+    // Qualifiers for each layer, so decorators can wrap the one below while
+    // everyone else gets the @Primary client: resilience -> rate limit -> transport
+    String TRANSPORT = "httpTransport";
+    String RATE_LIMITED = "rateLimitedHttpClient";
+
     <T> HttpResponse<T> get(HttpRequest<T> request);
+
+    /**
+     * Sends the request without waiting for the response, so independent calls
+     * can be in flight at the same time. Completes with the same responses
+     * {@link #get} returns, and exceptionally where {@link #get} would throw.
+     */
+    <T> CompletableFuture<HttpResponse<T>> getAsync(HttpRequest<T> request);
 }
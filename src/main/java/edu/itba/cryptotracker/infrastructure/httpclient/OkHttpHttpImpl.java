@@ -0,0 +1,190 @@
+package edu.itba.cryptotracker.infrastructure.httpclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpTransportConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp transport, selected with http.client=okhttp.
+ *
+ * One shared client: pooled keep-alive connections, HTTP/2 when the server
+ * offers it (CoinGecko does, so concurrent calls share one connection) and
+ * transparent gzip. Bodies are decoded from the stream with the application's
+ * ObjectMapper, the same one RestTemplate uses. getAsync is truly non-blocking:
+ * calls are enqueued on OkHttp's dispatcher and complete from its callbacks.
+ */
+@Slf4j
+@Component
+@Qualifier(HttpClient.TRANSPORT)
+@ConditionalOnProperty(name = "http.client", havingValue = "okhttp")
+public class OkHttpHttpImpl implements HttpClient {
+
+    private final OkHttpClient okHttpClient;
+    private final ObjectMapper objectMapper;
+
+    public OkHttpHttpImpl(final HttpTransportConfig config, final ObjectMapper objectMapper) {
+        this.okHttpClient = createClient(config);
+        this.objectMapper = objectMapper;
+    }
+
+    static OkHttpClient createClient(final HttpTransportConfig config) {
+        // OkHttp runs enqueued calls on its own pool; with virtual threads each gets one instead
+        final var dispatcher = config.isVirtualThreads()
+            ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("okhttp-", 0).factory()))
+            : new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+        return new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(
+                config.getMaxIdleConnections(), config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+            .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .connectTimeout(config.getConnectTimeout())
+            .readTimeout(config.getReadTimeout())
+            .callTimeout(config.getCallTimeout())
+            .build();
+    }
+
+    @Override
+    public <T> HttpResponse<T> get(final HttpRequest<T> request) {
+        final var call = newCall(request);
+
+        try (final var response = call.execute()) {
+            return toHttpResponse(request, response);
+        } catch (final IOException e) {
+            throw ioError(call, e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> getAsync(final HttpRequest<T> request) {
+        final var call = newCall(request);
+        final var future = new CompletableFuture<HttpResponse<T>>();
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(final Call failedCall, final IOException e) {
+                future.completeExceptionally(ioError(failedCall, e));
+            }
+
+            @Override
+            public void onResponse(final Call answeredCall, final Response response) {
+                try (response) {
+                    future.complete(toHttpResponse(request, response));
+                } catch (final IOException e) {
+                    future.completeExceptionally(ioError(answeredCall, e));
+                } catch (final RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        return future;
+    }
+
+    private Call newCall(final HttpRequest<?> request) {
+        final var url = buildUrl(request.endpoint(), request.params());
+        log.info("GET using OkHttp to: {}", url);
+
+        final var builder = new Request.Builder().url(url).get();
+        if (request.headers() != null) {
+            request.headers().forEach(builder::header);
+        }
+
+        return okHttpClient.newCall(builder.build());
+    }
+
+    private <T> HttpResponse<T> toHttpResponse(final HttpRequest<T> request, final Response response) throws IOException {
+        final var statusMessage = HttpStatusCode.valueOf(response.code()).toString();
+        final var headers = toHeaderMap(response.headers());
+
+        // 304 to a conditional request: no body, the caller keeps the copy it revalidated
+        if (response.code() == HttpStatus.NOT_MODIFIED.value()) {
+            return new HttpResponse<>(null, response.code(), statusMessage, headers);
+        }
+
+        if (!response.isSuccessful()) {
+            log.error("HTTP error {} calling {}", response.code(), response.request().url());
+            return HttpResponse.error(request.onError(), response.code(), statusMessage, headers);
+        }
+
+        final var body = new CountingInputStream(response.body().byteStream());
+        final T data = request.decoder() != null
+            ? decode(request.decoder(), body)
+            : objectMapper.readValue(body, request.responseType());
+        headers.put(HttpResponse.BODY_BYTES_HEADER, Long.toString(body.count()));
+        return HttpResponse.<T>builder()
+            .data(data)
+            .statusCode(response.code())
+            .statusMessage(statusMessage)
+            .headers(headers)
+            .build();
+    }
+
+    private <T> T decode(final ResponseDecoder<T> decoder, final InputStream body) throws IOException {
+        try (final var parser = objectMapper.getFactory().createParser(body)) {
+            return decoder.decode(parser);
+        }
+    }
+
+    // Same contract as RestTemplate's ResourceAccessException: I/O failures propagate
+    private UncheckedIOException ioError(final Call call, final IOException e) {
+        return new UncheckedIOException(
+            "I/O error on GET request for \"" + call.request().url() + "\": " + e.getMessage(), e);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+    }
+
+    // Keeps the first value of each header; enough for Retry-After and cache validators
+    private Map<String, String> toHeaderMap(final Headers headers) {
+        final Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String name : headers.names()) {
+            result.put(name, headers.get(name));
+        }
+        return result;
+    }
+
+    private HttpUrl buildUrl(final String endpoint, final Map<String, Object> params) {
+        final var builder = HttpUrl.get(endpoint).newBuilder();
+
+        if (params != null && !params.isEmpty()) {
+            params.forEach((key, value) ->
+                builder.addQueryParameter(key, value != null ? value.toString() : "")
+            );
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,17 @@
+package edu.itba.cryptotracker.infrastructure.httpclient;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads a response body token by token instead of binding it to a class.
+ *
+ * For large bodies where only a few fields matter: nothing but the returned
+ * value is built, so there is no intermediate tree of maps.
+ */
+@FunctionalInterface
+public interface ResponseDecoder<T> {
+
+    T decode(JsonParser parser) throws IOException;
+}
@@ -1,36 +1,72 @@
 package edu.itba.cryptotracker.infrastructure.httpclient;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpTransportConfig;
 import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
 import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Qualifier(HttpClient.TRANSPORT)
 @ConditionalOnProperty(name = "http.client", havingValue = "resttemplate", matchIfMissing = true) // todo: see this later
 public class RestTemplateHttpImpl implements HttpClient {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private RestTemplate restTemplate;
+    // RestTemplate only blocks, so getAsync calls run on their own executor: a bounded
+    // pool, or a virtual thread per call, which costs nothing while parked on the socket
+    private ExecutorService asyncExecutor;
     private final RestTemplateBuilder restTemplateBuilder;
+    private final HttpTransportConfig transportConfig;
 
     @PostConstruct
     void initRestTemplate() {
-        this.restTemplate = this.restTemplateBuilder.build();
+        this.restTemplate = this.restTemplateBuilder
+            .connectTimeout(transportConfig.getConnectTimeout())
+            .readTimeout(transportConfig.getReadTimeout())
+            .build();
+        this.asyncExecutor = transportConfig.isVirtualThreads()
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-async-", 0).factory())
+            : Executors.newFixedThreadPool(transportConfig.getAsyncThreads(), asyncThreadFactory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
     }
 
     @Override
@@ -42,19 +78,26 @@ public class RestTemplateHttpImpl implements HttpClient {
         final var url = buildUrl(request.endpoint(), request.params());
 
         try {
-            final var responseEntity = this.restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                requestEntity,
-                request.responseType()
-            );
+            // Same as exchange() for plain response types, but both paths go through counting()
+            final var responseEntity = request.decoder() != null
+                ? this.restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    this.restTemplate.httpEntityCallback(requestEntity),
+                    counting(decoding(request.decoder())))
+                : this.restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    this.restTemplate.httpEntityCallback(requestEntity, request.responseType()),
+                    counting(this.restTemplate.<T>responseEntityExtractor(request.responseType())));
 
             if (responseEntity.getStatusCode().isError()) {
                 log.error("HTTP error {} calling {}", responseEntity.getStatusCode(), url);
                 return HttpResponse.error(
                     request.onError(),
                     responseEntity.getStatusCode().value(),
-                    responseEntity.getStatusCode().toString()
+                    responseEntity.getStatusCode().toString(),
+                    toHeaderMap(responseEntity.getHeaders())
                 );
             }
 
@@ -62,6 +105,7 @@ public class RestTemplateHttpImpl implements HttpClient {
                 .data(responseEntity.getBody())
                 .statusCode(responseEntity.getStatusCode().value())
                 .statusMessage(responseEntity.getStatusCode().toString())
+                .headers(toHeaderMap(responseEntity.getHeaders()))
                 .build();
 
         } catch (final RestClientResponseException e) {
@@ -69,11 +113,76 @@ public class RestTemplateHttpImpl implements HttpClient {
             return HttpResponse.error(
                 request.onError(),
                 e.getStatusCode().value(),
-                e.getMessage()
+                e.getMessage(),
+                toHeaderMap(e.getResponseHeaders())
             );
         }
     }
 
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> getAsync(final HttpRequest<T> request) {
+        return CompletableFuture.supplyAsync(() -> get(request), asyncExecutor);
+    }
+
+    // Errors never get here: the default error handler throws RestClientResponseException first.
+    // A 304 has no body, so there is nothing to decode
+    private static <T> ResponseExtractor<ResponseEntity<T>> decoding(final ResponseDecoder<T> decoder) {
+        return response -> {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return new ResponseEntity<>(response.getHeaders(), response.getStatusCode());
+            }
+            try (final var parser = JSON_FACTORY.createParser(response.getBody())) {
+                return new ResponseEntity<>(decoder.decode(parser), response.getHeaders(), response.getStatusCode());
+            }
+        };
+    }
+
+    private static ThreadFactory asyncThreadFactory() {
+        return Thread.ofPlatform().name("http-async-", 0).daemon(true).factory();
+    }
+
+    // Reports how many body bytes the extractor read, after any decompression, in BODY_BYTES_HEADER
+    private static <T> ResponseExtractor<ResponseEntity<T>> counting(final ResponseExtractor<ResponseEntity<T>> extractor) {
+        return response -> {
+            final var body = new CountingInputStream(response.getBody());
+            final var entity = extractor.extractData(new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() throws IOException {
+                    return response.getStatusCode();
+                }
+
+                @Override
+                public String getStatusText() throws IOException {
+                    return response.getStatusText();
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return response.getHeaders();
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public void close() {
+                    response.close();
+                }
+            });
+
+            if (entity == null || body.count() == 0) {
+                return entity;
+            }
+
+            final var headers = new HttpHeaders();
+            headers.putAll(entity.getHeaders());
+            headers.set(HttpResponse.BODY_BYTES_HEADER, Long.toString(body.count()));
+            return new ResponseEntity<>(entity.getBody(), headers, entity.getStatusCode());
+        };
+    }
+
     private HttpHeaders createHeaders(final Map<String, String> headersMap) {
         final var headers = new HttpHeaders();
 
@@ -84,6 +193,21 @@ public class RestTemplateHttpImpl implements HttpClient {
         return headers;
     }
 
+    // Keeps the first value of each header; enough for Retry-After and cache validators
+    private Map<String, String> toHeaderMap(final HttpHeaders headers) {
+        if (headers == null || headers.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> {
+            if (values != null && !values.isEmpty()) {
+                result.put(name, values.get(0));
+            }
+        });
+        return result;
+    }
+
     private String buildUrl(final String endpoint, final Map<String, Object> params) {
         final var builder = UriComponentsBuilder.fromUriString(endpoint);
 
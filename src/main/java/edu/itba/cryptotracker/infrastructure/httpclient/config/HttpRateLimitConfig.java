@@ -0,0 +1,68 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the outgoing rate limiter.
+ *
+ * Populated by Spring from application.yml:
+ * http.rate-limit.enabled
+ * http.rate-limit.defaults.*
+ * http.rate-limit.hosts.[host].*
+ *
+ * Hosts without their own entry use the defaults.
+ */
+@Data
+@Builder
+public class HttpRateLimitConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    // Wait applied after a 429 that comes without a Retry-After header
+    @Builder.Default
+    private Duration defaultRetryAfter = Duration.ofSeconds(60);
+
+    @Builder.Default
+    private HostLimit defaults = new HostLimit();
+
+    @Builder.Default
+    private Map<String, HostLimit> hosts = new HashMap<>();
+
+    public HostLimit forHost(final String host) {
+        return hosts.getOrDefault(host, defaults);
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HostLimit {
+        @Builder.Default
+        private int capacity = 30;
+
+        @Builder.Default
+        private int refillTokens = 30;
+
+        @Builder.Default
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        @Builder.Default
+        private int maxQueueSize = 50;
+
+        @Builder.Default
+        private Duration maxWait = Duration.ofSeconds(10);
+
+        // Calls to the host in flight at once. Threads no longer bound this when
+        // running on virtual threads, so it is what keeps a burst off the upstream
+        @Builder.Default
+        private int maxConcurrentRequests = 20;
+    }
+}
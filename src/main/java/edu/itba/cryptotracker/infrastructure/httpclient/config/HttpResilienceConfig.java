@@ -0,0 +1,47 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for retries and the circuit breaker.
+ *
+ * Populated by Spring from application.yml:
+ * http.resilience.enabled
+ * http.resilience.max-attempts
+ * http.resilience.initial-backoff
+ * http.resilience.max-backoff
+ * http.resilience.failure-threshold
+ * http.resilience.open-duration
+ *
+ * max-attempts defaults to coingecko.api.retry-attempts. Each host gets its own
+ * breaker with these settings.
+ */
+@Data
+@Builder
+public class HttpResilienceConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    // Including the first call
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    // Attempt n waits a random time in [0, min(max-backoff, initial-backoff * 2^(n-1))]
+    @Builder.Default
+    private Duration initialBackoff = Duration.ofMillis(500);
+
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    // Consecutive failed calls (5xx, 429, I/O errors) that open the breaker
+    @Builder.Default
+    private int failureThreshold = 5;
+
+    // How long an open breaker fails fast before letting one probe through
+    @Builder.Default
+    private Duration openDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,55 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the HTTP transport (whichever http.client selects).
+ *
+ * Populated by Spring from application.yml:
+ * http.transport.connect-timeout
+ * http.transport.read-timeout
+ * http.transport.call-timeout
+ * http.transport.max-idle-connections
+ * http.transport.keep-alive
+ * http.transport.max-requests-per-host
+ * http.transport.async-threads
+ * http.transport.virtual-threads
+ *
+ * read-timeout defaults to coingecko.api.timeout-seconds and virtual-threads
+ * to spring.threads.virtual.enabled. The pool settings only apply to the OkHttp
+ * transport; async-threads only to RestTemplate, which has no non-blocking mode
+ * and runs getAsync calls on that many threads, or on one virtual thread per
+ * call when virtual-threads is on.
+ */
+@Data
+@Builder
+public class HttpTransportConfig {
+
+    @Builder.Default
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    // Whole call, including retries and redirects
+    @Builder.Default
+    private Duration callTimeout = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private int maxIdleConnections = 10;
+
+    @Builder.Default
+    private Duration keepAlive = Duration.ofMinutes(5);
+
+    // Concurrent async calls per host; the rate limiter still bounds the rate
+    @Builder.Default
+    private int maxRequestsPerHost = 10;
+
+    @Builder.Default
+    private int asyncThreads = 8;
+
+    private boolean virtualThreads;
+}
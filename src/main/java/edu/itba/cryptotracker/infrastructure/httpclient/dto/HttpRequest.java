@@ -1,13 +1,33 @@
 package edu.itba.cryptotracker.infrastructure.httpclient.dto;
 
+import edu.itba.cryptotracker.infrastructure.httpclient.ResponseDecoder;
 import lombok.Builder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static java.util.stream.Collectors.toMap;
 
-@Builder
+// When a decoder is set the transport streams the body through it and responseType may be null
+@Builder(toBuilder = true)
 public record HttpRequest<T>(String endpoint, Map<String, Object> params, Map<String, String> headers,
-                             Class<T> responseType, T onError) {
+                             Class<T> responseType, T onError, ResponseDecoder<T> decoder) {
 
+    /**
+     * Copia del request que revalida una respuesta guardada: el host contesta 304 sin body
+     * si sigue vigente.
+     *
+     * @param etag         ETag de la respuesta guardada, o null
+     * @param lastModified Last-Modified de la respuesta guardada, o null
+     */
+    public HttpRequest<T> withValidators(final String etag, final String lastModified) {
+        final Map<String, String> conditionalHeaders = headers == null ? new HashMap<>() : new HashMap<>(headers);
+        if (etag != null) {
+            conditionalHeaders.put("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            conditionalHeaders.put("If-Modified-Since", lastModified);
+        }
+        return toBuilder().headers(Map.copyOf(conditionalHeaders)).build();
+    }
 }
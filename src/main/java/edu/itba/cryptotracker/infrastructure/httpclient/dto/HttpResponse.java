@@ -1,14 +1,43 @@
 package edu.itba.cryptotracker.infrastructure.httpclient.dto;
 
 import lombok.Builder;
-import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
 
 @Builder
-public record HttpResponse<T>(T data, int statusCode, String statusMessage) {
+public record HttpResponse<T>(T data, int statusCode, String statusMessage, Map<String, String> headers) {
+
+    // Marks responses made up by our own client (rate limiter, circuit breaker) instead of the host
+    public static final String LOCAL_REJECTION_HEADER = "X-Local-Rejection";
+
+    // Set by the transport: bytes of body it decoded, after undoing any Content-Encoding
+    public static final String BODY_BYTES_HEADER = "X-Body-Bytes";
+
+    public HttpResponse(final T data, final int statusCode, final String statusMessage) {
+        this(data, statusCode, statusMessage, Map.of());
+    }
+
     public static <T> HttpResponse<T> error(T data, int statusCode, String message) {
         return new HttpResponse<>(data, statusCode, message);
     }
 
+    public static <T> HttpResponse<T> error(T data, int statusCode, String message, Map<String, String> headers) {
+        return new HttpResponse<>(data, statusCode, message, headers);
+    }
+
+    /**
+     * Error answered by our own client without calling the host, so it says nothing about the host's health.
+     */
+    public static <T> HttpResponse<T> localRejection(T data, int statusCode, String message) {
+        return new HttpResponse<>(data, statusCode, message, Map.of(LOCAL_REJECTION_HEADER, "true"));
+    }
+
     /**
      * Verifica si la respuesta es un error basándose en el status code.
      *
@@ -34,5 +63,67 @@ public record HttpResponse<T>(T data, int statusCode, String statusMessage) {
     public boolean isBadRequest() {
         return statusCode == 400;
     }
-}
 
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+
+    // Answer to a conditional request whose validators still match: there is no body
+    public boolean isNotModified() {
+        return statusCode == 304;
+    }
+
+    public Optional<String> etag() {
+        return header("ETag");
+    }
+
+    public Optional<String> lastModified() {
+        return header("Last-Modified");
+    }
+
+    public Optional<Long> bodyBytes() {
+        return header(BODY_BYTES_HEADER).flatMap(value -> {
+            try {
+                return Optional.of(Long.parseLong(value.trim()));
+            } catch (final NumberFormatException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    public boolean isLocalRejection() {
+        return header(LOCAL_REJECTION_HEADER).isPresent();
+    }
+
+    public Optional<String> header(final String name) {
+        if (headers == null) {
+            return Optional.empty();
+        }
+
+        return headers.entrySet().stream()
+            .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+            .map(Map.Entry::getValue)
+            .findFirst();
+    }
+
+    /**
+     * Lee el header Retry-After, que puede venir en segundos o como fecha HTTP.
+     *
+     * @return cuánto hay que esperar antes de volver a llamar al host, si el header está presente
+     */
+    public Optional<Duration> retryAfter() {
+        return header("Retry-After").flatMap(value -> {
+            try {
+                return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+            } catch (final NumberFormatException e) {
+                try {
+                    final var until = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                    final var wait = Duration.between(Instant.now(), until);
+                    return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+                } catch (final DateTimeParseException ignored) {
+                    return Optional.empty();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rate limiter for a single host.
+ *
+ * Callers wait in a bounded queue ordered by {@link RequestPriority} and then
+ * arrival, so a burst of background refreshes can't starve a user request.
+ * Only the head of the queue may go, and only once the host has a free
+ * concurrency slot and a token, so the same order decides who gets either.
+ * A Retry-After from the host blocks the whole queue until it expires.
+ *
+ * Uses a {@link ReentrantLock} instead of synchronized so waiting callers
+ * don't pin carrier threads when running on virtual threads.
+ */
+public class HostRateLimiter {
+
+    private final TokenBucket bucket;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+    private final int maxConcurrent;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+        Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence)
+    );
+
+    private long sequence;
+    private int inFlight;
+    private long blockedUntilNanos = System.nanoTime();
+
+    public HostRateLimiter(final TokenBucket bucket, final int maxQueueSize, final Duration maxWait,
+                           final int maxConcurrent) {
+        this.bucket = bucket;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Waits for a concurrency slot and a token. A granted call holds its slot
+     * until {@link #release()}; a token is only spent together with a slot.
+     *
+     * @return BUSY when the wait ran out with every slot taken, RATE_LIMITED
+     *         when the queue was full or the wait ran out for lack of a token
+     */
+    public Admission acquire(final RequestPriority priority) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (waiters.size() >= maxQueueSize) {
+                return Admission.RATE_LIMITED;
+            }
+
+            final var waiter = new Waiter(priority, sequence++);
+            waiters.add(waiter);
+
+            try {
+                final long deadline = System.nanoTime() + maxWaitNanos;
+
+                while (true) {
+                    final long now = System.nanoTime();
+                    final long remaining = deadline - now;
+
+                    // Sin slot libre se espera a un release(), que despierta la cola
+                    long wait = remaining;
+                    if (waiters.peek() == waiter && inFlight < maxConcurrent) {
+                        wait = Math.max(blockedUntilNanos - now, 0);
+                        if (wait == 0) {
+                            wait = bucket.nanosUntilAvailable();
+                            if (wait == 0 && bucket.tryConsume()) {
+                                inFlight++;
+                                return Admission.GRANTED;
+                            }
+                        }
+                    }
+
+                    if (remaining <= 0) {
+                        return inFlight >= maxConcurrent ? Admission.BUSY : Admission.RATE_LIMITED;
+                    }
+
+                    changed.awaitNanos(Math.min(Math.max(wait, 1), remaining));
+                }
+            } finally {
+                waiters.remove(waiter);
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot taken by a granted {@link #acquire}, once its call has finished.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops handing out tokens for the given time, e.g. after a 429 with Retry-After.
+     */
+    public void blockFor(final Duration duration) {
+        lock.lock();
+        try {
+            blockedUntilNanos = Math.max(blockedUntilNanos, System.nanoTime() + duration.toNanos());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long availableTokens() {
+        lock.lock();
+        try {
+            if (blockedUntilNanos - System.nanoTime() > 0) {
+                return 0;
+            }
+            return bucket.availableTokens();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public enum Admission {
+        GRANTED,
+        RATE_LIMITED,
+        BUSY
+    }
+
+    private record Waiter(RequestPriority priority, long sequence) {
+    }
+}
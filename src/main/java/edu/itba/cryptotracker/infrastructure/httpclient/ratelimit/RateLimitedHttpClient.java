@@ -0,0 +1,225 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpRateLimitConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.HostRateLimiter.Admission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpClient} decorator that keeps outgoing calls inside each host's budget.
+ *
+ * Every request takes a token from its host's {@link HostRateLimiter} before
+ * reaching the transport, waiting in a priority queue when the bucket is empty.
+ * Requests that can't get a token in time are answered locally with a 429, the
+ * same shape the transport returns when the host rejects us. A 429 from the
+ * host pauses the limiter for the Retry-After period.
+ *
+ * A token only bounds how often calls start. The limiter also caps how many
+ * are in flight, which a fixed thread pool used to do implicitly and virtual
+ * threads no longer do. Both wait in the same priority queue, so a call waits
+ * at most max-wait in total and a token is only spent together with a slot;
+ * calls still waiting on a slot when that runs out get a local 503.
+ */
+@Slf4j
+@Component
+@Qualifier(HttpClient.RATE_LIMITED)
+public class RateLimitedHttpClient implements HttpClient {
+
+    private static final String METRIC_PREFIX = "http.client.rate.limit";
+
+    private final HttpClient delegate;
+    private final HttpRateLimitConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    // Async calls wait for their slot and token here; a virtual thread does that for free
+    private final ExecutorService admissionExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-rate-limit-", 0).factory());
+
+    public RateLimitedHttpClient(@Qualifier(HttpClient.TRANSPORT) final HttpClient delegate,
+                                 final HttpRateLimitConfig config,
+                                 final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> HttpResponse<T> get(final HttpRequest<T> request) {
+        if (!config.isEnabled()) {
+            return delegate.get(request);
+        }
+
+        final var host = hostOf(request.endpoint());
+        final var limiter = limiterFor(host);
+
+        final var rejection = acquire(request, host, limiter, RequestPriorityContext.current());
+        if (rejection != null) {
+            return rejection;
+        }
+
+        try {
+            return onResponse(host, limiter, delegate.get(request));
+        } finally {
+            limiter.release();
+        }
+    }
+
+    // The slot and token wait runs on a virtual thread inside the returned future, so
+    // the caller isn't held; its priority is read here, before leaving its thread
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> getAsync(final HttpRequest<T> request) {
+        if (!config.isEnabled()) {
+            return delegate.getAsync(request);
+        }
+
+        final var host = hostOf(request.endpoint());
+        final var limiter = limiterFor(host);
+        final var priority = RequestPriorityContext.current();
+
+        return CompletableFuture
+            .supplyAsync(() -> acquire(request, host, limiter, priority), admissionExecutor)
+            .thenCompose(rejection -> rejection != null
+                ? CompletableFuture.completedFuture(rejection)
+                : send(request, host, limiter));
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> send(final HttpRequest<T> request, final String host,
+                                                        final HostRateLimiter limiter) {
+        final CompletableFuture<HttpResponse<T>> call;
+        try {
+            call = delegate.getAsync(request);
+        } catch (final RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+
+        return call
+            .whenComplete((response, error) -> limiter.release())
+            .thenApply(response -> onResponse(host, limiter, response));
+    }
+
+    // Returns the local 429/503 when the call can't go out, null once it holds a slot and a token
+    private <T> HttpResponse<T> acquire(final HttpRequest<T> request, final String host,
+                                        final HostRateLimiter limiter, final RequestPriority priority) {
+        final long start = System.nanoTime();
+        Admission admission;
+        try {
+            admission = limiter.acquire(priority);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admission = Admission.RATE_LIMITED;
+        }
+
+        Timer.builder(METRIC_PREFIX + ".wait")
+            .description("Time spent waiting for a concurrency slot and a rate limit token")
+            .tag("host", host)
+            .tag("priority", priority.name())
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (admission == Admission.GRANTED) {
+            return null;
+        }
+
+        if (admission == Admission.BUSY) {
+            Counter.builder(METRIC_PREFIX + ".concurrency.rejected")
+                .description("Requests rejected locally because the host had too many calls in flight")
+                .tag("host", host)
+                .tag("priority", priority.name())
+                .register(meterRegistry)
+                .increment();
+
+            log.warn("Too many concurrent calls to {} ({} request not sent)", host, priority);
+            return HttpResponse.localRejection(request.onError(), 503, "Too many concurrent requests to " + host);
+        }
+
+        Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Requests rejected locally because the wait queue was full or timed out")
+            .tag("host", host)
+            .tag("priority", priority.name())
+            .register(meterRegistry)
+            .increment();
+
+        log.warn("Rate limit budget exhausted for {} ({} request not sent)", host, priority);
+        return HttpResponse.localRejection(request.onError(), 429, "Rate limit budget exhausted for " + host);
+    }
+
+    private <T> HttpResponse<T> onResponse(final String host, final HostRateLimiter limiter,
+                                           final HttpResponse<T> response) {
+        if (response.isRateLimitError()) {
+            final var retryAfter = response.retryAfter().orElse(config.getDefaultRetryAfter());
+            log.warn("{} answered 429, pausing requests for {}", host, retryAfter);
+            limiter.blockFor(retryAfter);
+        }
+
+        return response;
+    }
+
+    /**
+     * Tokens the endpoint's host can spend right now, so background jobs can
+     * size their batches to the remaining budget.
+     */
+    public long availableTokens(final String endpoint) {
+        if (!config.isEnabled()) {
+            return Long.MAX_VALUE;
+        }
+        return limiterFor(hostOf(endpoint)).availableTokens();
+    }
+
+    private HostRateLimiter limiterFor(final String host) {
+        return limiters.computeIfAbsent(host, key -> {
+            final var limit = config.forHost(key);
+            final var limiter = new HostRateLimiter(
+                new TokenBucket(limit.getCapacity(), limit.getRefillTokens(), limit.getRefillPeriod()),
+                limit.getMaxQueueSize(),
+                limit.getMaxWait(),
+                limit.getMaxConcurrentRequests()
+            );
+
+            Gauge.builder(METRIC_PREFIX + ".queue.depth", limiter, HostRateLimiter::queueDepth)
+                .description("Requests waiting for a rate limit token")
+                .tag("host", key)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".tokens.available", limiter, HostRateLimiter::availableTokens)
+                .description("Rate limit tokens currently available")
+                .tag("host", key)
+                .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".in.flight", limiter, HostRateLimiter::inFlight)
+                .description("Calls to the host currently in flight")
+                .tag("host", key)
+                .register(meterRegistry);
+
+            return limiter;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        admissionExecutor.shutdownNow();
+    }
+
+    public static String hostOf(final String endpoint) {
+        final var host = endpoint != null
+            ? UriComponentsBuilder.fromUriString(endpoint).build().getHost()
+            : null;
+        return host != null ? host : "unknown";
+    }
+}
@@ -0,0 +1,10 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+/**
+ * Priority of an outgoing request when it has to wait for the rate limiter.
+ * Declaration order is the dequeue order: user-facing reads go first.
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BACKGROUND
+}
@@ -0,0 +1,44 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries the priority of the current thread's outgoing requests.
+ *
+ * Background jobs (price refresh, catalog sync) wrap their work in
+ * {@link #callAs(RequestPriority, Supplier)} so the rate limiter can queue
+ * them behind user-facing requests without changing the gateway signatures.
+ */
+public final class RequestPriorityContext {
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    private RequestPriorityContext() {
+    }
+
+    public static RequestPriority current() {
+        final var priority = CURRENT.get();
+        return priority != null ? priority : RequestPriority.INTERACTIVE;
+    }
+
+    public static <T> T callAs(final RequestPriority priority, final Supplier<T> action) {
+        final var previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(final RequestPriority priority, final Runnable action) {
+        callAs(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
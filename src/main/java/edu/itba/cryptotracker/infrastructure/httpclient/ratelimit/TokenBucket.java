@@ -0,0 +1,75 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled continuously at {@code refillTokens / refillPeriod}.
+ *
+ * Not thread-safe: {@link HostRateLimiter} guards every call with its lock.
+ * The nano clock is injectable so tests don't have to sleep.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(final long capacity, final long refillTokens, final Duration refillPeriod) {
+        this(capacity, refillTokens, refillPeriod, System::nanoTime);
+    }
+
+    public TokenBucket(final long capacity, final long refillTokens, final Duration refillPeriod,
+                       final LongSupplier nanoClock) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Token bucket capacity, refill tokens and period must be positive");
+        }
+
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriod.toNanos();
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    public boolean tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return nanos until one token is available, 0 if one is available now
+     */
+    public long nanosUntilAvailable() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    public long availableTokens() {
+        refill();
+        return (long) tokens;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    private void refill() {
+        final long now = nanoClock.getAsLong();
+        final long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Circuit breaker for a single host.
+ *
+ * CLOSED lets every call through and counts consecutive failures. Reaching the
+ * threshold OPENs it: calls fail fast for the open duration, after which the
+ * breaker goes HALF_OPEN and lets a single probe through. A successful probe
+ * closes it again, a failed one reopens it.
+ *
+ * Uses a {@link ReentrantLock} for the same reason as HostRateLimiter: callers
+ * may be virtual threads.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(final int failureThreshold, final Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * @return false when the call must not reach the host
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+                state = State.HALF_OPEN;
+            }
+
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (probeInFlight) {
+                        yield false;
+                    }
+                    probeInFlight = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+            }
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call never reached the host (e.g. rejected by the rate limiter): no verdict on its health.
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            probeInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.resilience;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpResilienceConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RateLimitedHttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriorityContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * {@link HttpClient} decorator that retries transient failures and stops
+ * calling hosts that are down.
+ *
+ * 5xx, 429 and I/O errors are retried up to max-attempts with exponential
+ * backoff and full jitter, so clients that failed together don't come back
+ * together. A Retry-After longer than max-backoff is not waited out here: the
+ * rate limiter already holds the host's queue for that long.
+ *
+ * Each host has a {@link CircuitBreaker}. While it is open, calls are answered
+ * locally with a 503 instead of waiting on timeouts. Responses made up by the
+ * rate limiter never reached the host, so they are neither retried nor counted.
+ *
+ * Sits above the rate limiter, so every retry takes a token like any other call.
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientHttpClient implements HttpClient {
+
+    private static final String METRIC_PREFIX = "http.client.resilience";
+
+    private final HttpClient delegate;
+    private final HttpResilienceConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    // Async retries sleep through their backoff; a virtual thread does that for free
+    private final ExecutorService retryExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-retry-", 0).factory());
+
+    public ResilientHttpClient(@Qualifier(HttpClient.RATE_LIMITED) final HttpClient delegate,
+                               final HttpResilienceConfig config,
+                               final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> HttpResponse<T> get(final HttpRequest<T> request) {
+        if (!config.isEnabled()) {
+            return delegate.get(request);
+        }
+
+        final var host = RateLimitedHttpClient.hostOf(request.endpoint());
+        return execute(request, host, breakerFor(host), 1);
+    }
+
+    // The first attempt stays non-blocking; only a retry moves to a thread that can sleep
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> getAsync(final HttpRequest<T> request) {
+        if (!config.isEnabled()) {
+            return delegate.getAsync(request);
+        }
+
+        final var host = RateLimitedHttpClient.hostOf(request.endpoint());
+        final var breaker = breakerFor(host);
+        if (!breaker.tryAcquire()) {
+            return CompletableFuture.completedFuture(open(request, host));
+        }
+
+        final var priority = RequestPriorityContext.current();
+        CompletableFuture<HttpResponse<T>> firstAttempt;
+        try {
+            firstAttempt = delegate.getAsync(request);
+        } catch (final RuntimeException e) {
+            firstAttempt = CompletableFuture.failedFuture(e);
+        }
+
+        return firstAttempt
+            .handle((response, error) -> {
+                final var cause = unwrap(error);
+                final var backoff = settle(host, breaker, 1, response, cause);
+                if (backoff.isEmpty()) {
+                    return cause == null
+                        ? CompletableFuture.completedFuture(response)
+                        : CompletableFuture.<HttpResponse<T>>failedFuture(cause);
+                }
+
+                return CompletableFuture.supplyAsync(() -> RequestPriorityContext.callAs(priority, () -> {
+                    sleep(backoff.get());
+                    return execute(request, host, breaker, 2);
+                }), retryExecutor);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private <T> HttpResponse<T> execute(final HttpRequest<T> request, final String host,
+                                        final CircuitBreaker breaker, final int firstAttempt) {
+        for (int attempt = firstAttempt; ; attempt++) {
+            if (!breaker.tryAcquire()) {
+                return open(request, host);
+            }
+
+            HttpResponse<T> response = null;
+            RuntimeException error = null;
+            try {
+                response = delegate.get(request);
+            } catch (final RuntimeException e) {
+                error = e;
+            }
+
+            final var backoff = settle(host, breaker, attempt, response, error);
+            if (backoff.isEmpty() || !sleep(backoff.get())) {
+                if (error != null) {
+                    throw error;
+                }
+                return response;
+            }
+        }
+    }
+
+    // Reports the outcome to the breaker and returns how long to wait before retrying, if at all
+    private Optional<Duration> settle(final String host, final CircuitBreaker breaker, final int attempt,
+                                      final HttpResponse<?> response, final Throwable error) {
+        if (error == null && response.isLocalRejection()) {
+            breaker.onIgnored();
+            return Optional.empty();
+        }
+
+        final boolean failed = error != null || response.isServerError() || response.isRateLimitError();
+        if (!failed) {
+            breaker.onSuccess();
+            return Optional.empty();
+        }
+
+        breaker.onFailure();
+        if (attempt >= config.getMaxAttempts()) {
+            return Optional.empty();
+        }
+
+        final var retryAfter = error == null ? response.retryAfter() : Optional.<Duration>empty();
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(config.getMaxBackoff()) > 0) {
+            return Optional.empty();
+        }
+
+        final var backoff = retryAfter.orElseGet(() -> backoff(attempt));
+        Counter.builder(METRIC_PREFIX + ".retries")
+            .description("Calls retried after a transient failure")
+            .tag("host", host)
+            .register(meterRegistry)
+            .increment();
+        log.warn("Call to {} failed ({}), retrying in {} ms (attempt {}/{})", host,
+            error != null ? error.getMessage() : response.statusCode(),
+            backoff.toMillis(), attempt + 1, config.getMaxAttempts());
+        return Optional.of(backoff);
+    }
+
+    // Full jitter: uniform in [0, min(max, initial * 2^(attempt - 1))]
+    private Duration backoff(final int attempt) {
+        final long initial = config.getInitialBackoff().toMillis();
+        final long ceiling = Math.min(config.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 30));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private <T> HttpResponse<T> open(final HttpRequest<T> request, final String host) {
+        Counter.builder(METRIC_PREFIX + ".short.circuited")
+            .description("Calls answered locally because the host's circuit breaker is open")
+            .tag("host", host)
+            .register(meterRegistry)
+            .increment();
+
+        log.debug("Circuit open for {}, request not sent", host);
+        return HttpResponse.localRejection(request.onError(), 503, "Circuit breaker open for " + host);
+    }
+
+    private CircuitBreaker breakerFor(final String host) {
+        return breakers.computeIfAbsent(host, key -> {
+            final var breaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDuration());
+
+            Gauge.builder(METRIC_PREFIX + ".state", breaker, b -> b.state().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half open")
+                .tag("host", key)
+                .register(meterRegistry);
+
+            return breaker;
+        });
+    }
+
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa;
+
+import edu.itba.cryptotracker.application.transaction.AfterCommit;
+import edu.itba.cryptotracker.domain.gateway.CryptoCatalogGateway;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import edu.itba.cryptotracker.infrastructure.cache.CryptoCatalog;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.CryptoListingEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// catálogo en la tabla crypto_catalog; las búsquedas van al índice en memoria (CryptoCatalog)
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CryptoCatalogJpaGatewayImpl implements CryptoCatalogGateway {
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM crypto_catalog";
+    private static final String INSERT_SQL =
+        "INSERT INTO crypto_catalog (id, symbol, name, market_cap_rank) VALUES (?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final CryptoListingJpaRepository jpaRepository;
+    private final CryptoCatalog cryptoCatalog;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CryptoListingModel> search(String query, int limit) {
+        return cryptoCatalog.getOrLoad(this::loadAll).search(query, limit);
+    }
+
+    @Override
+    public List<CryptoListingModel> findTopRanked(int limit) {
+        return cryptoCatalog.getOrLoad(this::loadAll).top(limit);
+    }
+
+    @Override
+    public long count() {
+        return cryptoCatalog.getOrLoad(this::loadAll).size();
+    }
+
+    // Plain JDBC batches: the whole catalogue is rewritten at once, no need for entity merges
+    @Override
+    @Transactional
+    public void replaceAll(Collection<CryptoListingModel> listings) {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        jdbcTemplate.batchUpdate(INSERT_SQL, listings, INSERT_BATCH_SIZE, (statement, listing) -> {
+            statement.setString(1, listing.id());
+            statement.setString(2, listing.symbol());
+            statement.setString(3, listing.name());
+            statement.setObject(4, listing.marketCapRank());
+        });
+        // Searches keep the old index until the new rows are committed; a rollback leaves both as they were
+        AfterCommit.run(() -> cryptoCatalog.replace(listings));
+    }
+
+    private List<CryptoListingModel> loadAll() {
+        log.debug("Loading crypto catalogue from the database");
+        return jpaRepository.findAll().stream().map(this::toModel).toList();
+    }
+
+    private CryptoListingModel toModel(CryptoListingEntity entity) {
+        return new CryptoListingModel(entity.getId(), entity.getSymbol(), entity.getName(), entity.getMarketCapRank());
+    }
+}
@@ -1,39 +1,70 @@
 package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
+import edu.itba.cryptotracker.application.transaction.AfterCommit;
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
-import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
 import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
+import edu.itba.cryptotracker.infrastructure.cache.CryptoCache;
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.CryptoJpaMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 // traduce llamadas del dominio a JPA
 // convierte domain entity <-> jpa entity
 // maneja persistencia con spring data
+// lecturas pasan primero por CryptoCache (stale-while-revalidate)
+// el cache solo se escribe / invalida despues del commit
 
 @Repository
 @RequiredArgsConstructor
 public class CryptoJpaGatewayImpl implements CryptoRepositoryGateway {
     private final CryptoJpaRepository jpaRepository;
-    private final CryptoProviderGateway providerGateway;
     private final CryptoJpaMapper entityMapper;
+    private final CryptoCache cryptoCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String UPDATE_PRICES_SQL =
+        "UPDATE crypto SET usd_price = ?, eur_price = ?, btc_price = ?, last_updated_at = ? WHERE id = ?";
 
     @Override
+    @Transactional
     public void save(Crypto crypto) {
         var entity = entityMapper.toEntity(crypto);
         jpaRepository.save(entity);
+        AfterCommit.run(() -> cryptoCache.put(crypto));
+    }
+
+    // Background refreshes call back on a cache thread, outside any caller's transaction
+    private void saveRefreshed(Crypto refreshed) {
+        transactionTemplate.executeWithoutResult(status -> save(refreshed));
     }
 
     @Override
     public Optional<Crypto> findById(String coingeckoId) {
+        Optional<Crypto> cached = cryptoCache.get(coingeckoId, this::saveRefreshed);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        // Solo cache y base: traer de Coingecko lo decide el caso de uso, con single-flight
         return jpaRepository.findById(coingeckoId).map(entityMapper::toDomain)
-            .or(() -> {
-                Optional<Crypto> fetched = providerGateway.fetchCrypto(coingeckoId);
-                fetched.ifPresent(this::save);
-                return fetched;
+            .map(stored -> {
+                cryptoCache.admit(stored, this::saveRefreshed);
+                return stored;
             });
     }
 
@@ -42,4 +73,55 @@ public class CryptoJpaGatewayImpl implements CryptoRepositoryGateway {
         return jpaRepository.findAll().stream().map(entityMapper::toDomain).toList();
     }
 
+    @Override
+    public List<Crypto> findAllByIds(Collection<String> coingeckoIds) {
+        if (coingeckoIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(coingeckoIds).stream().map(entityMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Crypto> search(String query, int limit) {
+        return jpaRepository.search(query == null ? "" : query.trim(), PageRequest.of(0, limit))
+            .stream()
+            .map(entityMapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<String> findStaleIds(Instant updatedBefore, int limit) {
+        return jpaRepository.findIdsUpdatedBefore(updatedBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long countStale(Instant updatedBefore) {
+        return jpaRepository.countByLastUpdatedAtBefore(updatedBefore);
+    }
+
+    // Plain JDBC batch: one round trip instead of a select + update per entity
+    @Override
+    @Transactional
+    public int updatePrices(Map<String, LastKnownPrices> pricesById, Instant updatedAt) {
+        if (pricesById.isEmpty()) {
+            return 0;
+        }
+
+        final var timestamp = Timestamp.from(updatedAt);
+        final List<Object[]> rows = new ArrayList<>(pricesById.size());
+        pricesById.forEach((id, prices) -> rows.add(new Object[]{
+            prices.usdPrice(), prices.eurPrice(), prices.btcPrice(), timestamp, id
+        }));
+
+        final var counts = jdbcTemplate.batchUpdate(UPDATE_PRICES_SQL, rows);
+        // Evicting before commit would let a reader cache the old row again
+        AfterCommit.run(() -> pricesById.keySet().forEach(cryptoCache::evict));
+
+        int updated = 0;
+        for (int count : counts) {
+            // Some drivers report SUCCESS_NO_INFO (-2) for batched statements
+            updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return updated;
+    }
 }
@@ -1,15 +1,35 @@
 package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.CryptoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface CryptoJpaRepository extends JpaRepository<CryptoEntity, String> {
 
-    @Query("SELECT c FROM CryptoEntity c WHERE LOWER(c.symbol) = LOWER(:symbol)")
+    // Symbols are stored uppercase (Crypto.create), so only the parameter is normalized
+    // and the unique index on symbol stays usable
+    @Query("SELECT c FROM CryptoEntity c WHERE c.symbol = UPPER(:symbol)")
     Optional<CryptoEntity> findBySymbol(@Param("symbol") String symbol);
+
+    // Only used while the crypto catalogue is still empty, over the few cryptos stored
+    @Query("""
+        SELECT c FROM CryptoEntity c
+        WHERE c.symbol LIKE CONCAT(UPPER(:query), '%')
+           OR LOWER(c.name) LIKE CONCAT('%', LOWER(:query), '%')
+        ORDER BY c.name
+    """)
+    List<CryptoEntity> search(@Param("query") String query, Pageable pageable);
+
+    // Served by idx_crypto_last_updated_at
+    @Query("SELECT c.id FROM CryptoEntity c WHERE c.lastUpdatedAt < :threshold ORDER BY c.lastUpdatedAt ASC")
+    List<String> findIdsUpdatedBefore(@Param("threshold") Instant threshold, Pageable pageable);
+
+    long countByLastUpdatedAtBefore(Instant threshold);
 }
@@ -0,0 +1,9 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa;
+
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.CryptoListingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CryptoListingJpaRepository extends JpaRepository<CryptoListingEntity, String> {
+}
@@ -51,7 +51,7 @@ public class GoalJpaGatewayImpl implements GoalRepositoryGateway {
 
     @Override
     public List<Goal> findAll() {
-        return jpaRepository.findAll().stream().map(entityMapper::toDomain).toList();
+        return jpaRepository.findAllWithCrypto().stream().map(entityMapper::toDomain).toList();
     }
 
 }
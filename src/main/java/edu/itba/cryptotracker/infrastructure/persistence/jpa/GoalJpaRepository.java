@@ -6,16 +6,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GoalJpaRepository extends JpaRepository<GoalEntity, String> {
 
+    // Crypto ids are stored lowercase, so only the parameter is normalized
     @Query("""
         SELECT g
         FROM GoalEntity g
-        WHERE LOWER(g.crypto.id) = LOWER(:cryptoId)
+        WHERE g.crypto.id = LOWER(:cryptoId)
     """)
     Optional<GoalEntity> findByCryptoId(@Param("cryptoId") String cryptoId);
 
     boolean existsByCrypto_Id(String cryptoId);
+
+    // Loads each goal's crypto in the same query instead of one lazy load per goal
+    @Query("SELECT g FROM GoalEntity g JOIN FETCH g.crypto")
+    List<GoalEntity> findAllWithCrypto();
 }
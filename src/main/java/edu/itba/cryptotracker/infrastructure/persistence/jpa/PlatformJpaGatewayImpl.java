@@ -1,15 +1,17 @@
 package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
+import edu.itba.cryptotracker.application.transaction.AfterCommit;
 import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
+import edu.itba.cryptotracker.infrastructure.cache.PlatformCatalog;
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.PlatformJpaMapper;
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
 import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
@@ -23,25 +25,54 @@ public class PlatformJpaGatewayImpl implements PlatformRepositoryGateway {
     private final PlatformJpaRepository jpaRepository;
     private final PlatformProviderGateway platformProviderGateway;
     private final PlatformJpaMapper mapper;
+    private final PlatformCatalog platformCatalog;
 
+    /**
+     * Served from the in-memory catalog; the table is only read once to load it.
+     */
     @Override
     public List<Platform> findAll() {
-        return jpaRepository.findAll()
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+        return platformCatalog.getOrLoad(this::loadAll);
     }
 
     @Override
-    public Optional<Platform> findById(String id) {
-        return jpaRepository.findById(id)
-            .map(mapper::toDomain)
-            .or(() -> {
-                log.info("Platform {} not in cache, fetching from Coingecko", id);
-                Optional<Platform> fetched = platformProviderGateway.fetchExchange(id);
-//                fetched.ifPresent(this::save);
-                return fetched;
-            });
+    public List<Platform> search(String query, int limit) {
+        return platformCatalog.searchIndex(this::loadAll).search(query, limit);
+    }
+
+    /**
+     * Read-through lookup: in-memory catalog, then the table (primary key), then
+     * Coingecko. Platforms fetched from Coingecko are written through so the
+     * next lookup is an in-memory hit; unknown ids are remembered by the
+     * provider gateway's negative cache.
+     *
+     * Transactional itself because the write-through calls saveAll on this, past the proxy.
+     */
+    @Override
+    @Transactional
+    public Optional<Platform> findById(String rawId) {
+        if (rawId == null || rawId.isBlank()) {
+            return Optional.empty();
+        }
+
+        // Coingecko exchange ids are lowercase: " Binance" must hit the same catalog and negative cache entries
+        String id = rawId.trim().toLowerCase();
+        Optional<Platform> cached = platformCatalog.find(id, this::loadAll);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<Platform> stored = jpaRepository.findById(id).map(mapper::toDomain);
+        if (stored.isPresent()) {
+            // Stored by another instance after our snapshot was loaded
+            platformCatalog.merge(List.of(stored.get()));
+            return stored;
+        }
+
+        log.info("Platform {} not stored, fetching from Coingecko", id);
+        Optional<Platform> fetched = platformProviderGateway.fetchExchange(id);
+        fetched.ifPresent(platform -> saveAll(List.of(platform)));
+        return fetched;
     }
 //
 //    @Override
@@ -58,6 +89,19 @@ public class PlatformJpaGatewayImpl implements PlatformRepositoryGateway {
             .toList();
     }
 
+    @Override
+    @Transactional
+    public void saveAll(Collection<Platform> platforms) {
+        if (platforms.isEmpty()) {
+            return;
+        }
+
+        // Load first so the merged snapshot includes the platforms already stored
+        platformCatalog.getOrLoad(this::loadAll);
+        jpaRepository.saveAll(platforms.stream().map(mapper::toEntity).toList());
+        AfterCommit.run(() -> platformCatalog.merge(platforms));
+    }
+
 //    @Override
 //    @Transactional
 //    public Platform save(Platform platform) {
@@ -78,4 +122,12 @@ public class PlatformJpaGatewayImpl implements PlatformRepositoryGateway {
     public boolean existsByName(String name) {
         return jpaRepository.existsByNameIgnoreCase(name);
     }
+
+    private List<Platform> loadAll() {
+        log.debug("Loading platform catalog from the database");
+        return jpaRepository.findAll()
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
 }
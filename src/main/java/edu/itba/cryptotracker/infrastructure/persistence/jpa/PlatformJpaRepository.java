@@ -14,15 +14,15 @@ import java.util.Optional;
 public interface PlatformJpaRepository extends JpaRepository<PlatformEntity, String> {
 
     /**
-     * Finds a platform by name (case insensitive).
+     * Finds a platform by name (case insensitive), through the indexed normalized name.
      */
-    @Query("SELECT p FROM PlatformEntity p WHERE UPPER(p.name) = UPPER(:name)")
+    @Query("SELECT p FROM PlatformEntity p WHERE p.normalizedName = UPPER(:name)")
     Optional<PlatformEntity> findByNameIgnoreCase(@Param("name") String name);
 
     /**
-     * Checks if a platform exists by name (case insensitive).
+     * Checks if a platform exists by name (case insensitive), through the indexed normalized name.
      */
-    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM PlatformEntity p WHERE UPPER(p.name) = UPPER(:name)")
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM PlatformEntity p WHERE p.normalizedName = UPPER(:name)")
     boolean existsByNameIgnoreCase(@Param("name") String name);
 
     /**
@@ -2,15 +2,27 @@ package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.UserCryptoEntity;
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.UserCryptoJpaMapper;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.projection.CryptoQuantityView;
 import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
 import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.BalancesModel;
+import edu.itba.cryptotracker.domain.model.CryptoHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.HoldingDeltaModel;
+import edu.itba.cryptotracker.domain.model.PlatformHoldingTotalsModel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,6 +30,32 @@ public class UserCryptoJpaGatewayImpl implements UserCryptoRepositoryGateway {
 
     private final UserCryptoJpaRepository jpaRepository;
     private final UserCryptoJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Quantity changes are computed by the database, so there is no window between reading a
+    // balance and writing it back. Bumping version keeps versioned JPA writes of the same row
+    // from overwriting them
+    private static final String SUBTRACT_QUANTITY_IF_SUFFICIENT_SQL =
+        "UPDATE user_crypto SET quantity = quantity - ?, version = version + 1 WHERE id = ? AND quantity >= ?";
+
+    // Standard MERGE instead of ON CONFLICT so the same statement runs on H2 and Postgres
+    private static final String UPSERT_QUANTITY_SQL = """
+        MERGE INTO user_crypto t
+        USING (VALUES (CAST(? AS UUID), ?, ?, ?, CAST(? AS DECIMAL(19, 2))))
+            AS s (id, user_id, crypto_id, platform_id, quantity)
+        ON (t.user_id = s.user_id AND t.crypto_id = s.crypto_id AND t.platform_id = s.platform_id)
+        WHEN MATCHED THEN
+            UPDATE SET quantity = t.quantity + s.quantity, version = t.version + 1
+        WHEN NOT MATCHED THEN
+            INSERT (id, user_id, crypto_id, platform_id, quantity, version)
+            VALUES (s.id, s.user_id, s.crypto_id, s.platform_id, s.quantity, 0)
+        """;
+
+    private static final String FIND_ID_SQL =
+        "SELECT id FROM user_crypto WHERE user_id = ? AND crypto_id = ? AND platform_id = ?";
+
+    private static final String DELETE_IF_EMPTY_SQL =
+        "DELETE FROM user_crypto WHERE id = ? AND quantity = 0";
 
     @Override
     public void save(UserCrypto userCrypto) {
@@ -39,6 +77,17 @@ public class UserCryptoJpaGatewayImpl implements UserCryptoRepositoryGateway {
             .map(mapper::toDomain);
     }
 
+    @Override
+    public List<UserCrypto> findAllByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids)
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
     @Override
     public List<UserCrypto> findAllByCryptoId(String cryptoId) {
         return jpaRepository.findAllByCryptoId(cryptoId)
@@ -68,6 +117,18 @@ public class UserCryptoJpaGatewayImpl implements UserCryptoRepositoryGateway {
             .map(mapper::toDomain);
     }
 
+    @Override
+    public List<UserCrypto> findAllByUserIdsAndCryptoIdsAndPlatformIds(
+        Collection<String> userIds, Collection<String> cryptoIds, Collection<String> platformIds) {
+        if (userIds.isEmpty() || cryptoIds.isEmpty() || platformIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByUserIdsAndCryptoIdsAndPlatformIds(userIds, cryptoIds, platformIds)
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
     @Override
     public List<UserCrypto> findAll() {
         return jpaRepository.findAll()
@@ -89,6 +150,76 @@ public class UserCryptoJpaGatewayImpl implements UserCryptoRepositoryGateway {
         jpaRepository.deleteAll(entities);
     }
 
+    @Override
+    public boolean subtractQuantityIfSufficient(UUID id, BigDecimal delta) {
+        return jdbcTemplate.update(SUBTRACT_QUANTITY_IF_SUFFICIENT_SQL, delta, id, delta) == 1;
+    }
+
+    // Two transfers creating the same holding at once can still collide on uk_user_crypto_platform;
+    // the DuplicateKeyException surfaces to the caller, which may retry
+    @Override
+    public UUID addQuantityOrCreate(String userId, String cryptoId, String platformId, BigDecimal delta) {
+        jdbcTemplate.update(UPSERT_QUANTITY_SQL, UUID.randomUUID(), userId, cryptoId, platformId, delta);
+        return jdbcTemplate.queryForObject(FIND_ID_SQL, UUID.class, userId, cryptoId, platformId);
+    }
+
+    @Override
+    public boolean deleteIfEmpty(UUID id) {
+        return jdbcTemplate.update(DELETE_IF_EMPTY_SQL, id) == 1;
+    }
+
+    @Override
+    public Set<UUID> subtractQuantitiesIfSufficient(Map<UUID, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return Set.of();
+        }
+
+        final List<UUID> ids = new ArrayList<>(deltas.size());
+        final List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> {
+            ids.add(id);
+            rows.add(new Object[]{delta, id, delta});
+        });
+
+        final var counts = jdbcTemplate.batchUpdate(SUBTRACT_QUANTITY_IF_SUFFICIENT_SQL, rows);
+
+        final Set<UUID> rejected = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // Anything but exactly one row is a rejection: a driver answering SUCCESS_NO_INFO (-2)
+            // can't tell us the balance check held, and crediting the destination anyway would mint coins
+            if (counts[i] != 1) {
+                rejected.add(ids.get(i));
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public void addQuantitiesOrCreate(Collection<HoldingDeltaModel> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        final List<Object[]> rows = deltas.stream()
+            .map(delta -> new Object[]{
+                UUID.randomUUID(), delta.userId(), delta.cryptoId(), delta.platformId(), delta.quantity()
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(UPSERT_QUANTITY_SQL, rows);
+    }
+
+    @Override
+    public void deleteAllIfEmpty(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        final List<Object[]> rows = ids.stream()
+            .map(id -> new Object[]{id})
+            .toList();
+        jdbcTemplate.batchUpdate(DELETE_IF_EMPTY_SQL, rows);
+    }
+
     @Override
     public BigDecimal sumQuantityByCrypto(final String cryptoId) {
         if (cryptoId == null || cryptoId.isBlank()) {
@@ -96,4 +227,39 @@ public class UserCryptoJpaGatewayImpl implements UserCryptoRepositoryGateway {
         }
         return jpaRepository.sumQuantityByCrypto(cryptoId);
     }
+
+    @Override
+    public Map<String, BigDecimal> sumQuantityByCryptoIds(final Collection<String> cryptoIds) {
+        if (cryptoIds == null || cryptoIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.sumQuantityByCryptoIds(cryptoIds)
+            .stream()
+            .collect(Collectors.toMap(CryptoQuantityView::getCryptoId, CryptoQuantityView::getQuantity));
+    }
+
+    @Override
+    public List<CryptoHoldingTotalsModel> sumHoldingsByCrypto() {
+        return jpaRepository.sumHoldingsByCrypto()
+            .stream()
+            .map(view -> new CryptoHoldingTotalsModel(
+                view.getCryptoId(),
+                view.getSymbol(),
+                view.getName(),
+                view.getQuantity(),
+                new BalancesModel(view.getUsdValue(), view.getEurValue(), view.getBtcValue())
+            ))
+            .toList();
+    }
+
+    @Override
+    public List<PlatformHoldingTotalsModel> sumHoldingsByPlatform() {
+        return jpaRepository.sumHoldingsByPlatform()
+            .stream()
+            .map(view -> new PlatformHoldingTotalsModel(
+                view.getPlatformId(),
+                new BalancesModel(view.getUsdValue(), view.getEurValue(), view.getBtcValue())
+            ))
+            .toList();
+    }
 }
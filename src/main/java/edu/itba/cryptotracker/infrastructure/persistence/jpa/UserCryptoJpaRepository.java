@@ -1,11 +1,15 @@
 package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.UserCryptoEntity;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.projection.CryptoHoldingTotalsView;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.projection.CryptoQuantityView;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.projection.PlatformHoldingTotalsView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,16 +36,61 @@ public interface UserCryptoJpaRepository extends JpaRepository<UserCryptoEntity,
         @Param("platformId") String platformId
     );
 
+    @Query("""
+        SELECT uc FROM UserCryptoEntity uc
+        WHERE uc.userId IN :userIds AND uc.cryptoId IN :cryptoIds AND uc.platformId IN :platformIds
+    """)
+    List<UserCryptoEntity> findAllByUserIdsAndCryptoIdsAndPlatformIds(
+        @Param("userIds") Collection<String> userIds,
+        @Param("cryptoIds") Collection<String> cryptoIds,
+        @Param("platformIds") Collection<String> platformIds
+    );
+
     @Query("SELECT uc FROM UserCryptoEntity uc WHERE uc.cryptoId = :cryptoId AND uc.platformId = :platformId AND uc.userId = :userId")
     Optional<UserCryptoEntity> findByUserIdAndCryptoIdAndPlatformId(
         String userId,
         String cryptoId,
         String platformId
     );
+    // Crypto ids are stored lowercase, so only the parameter is normalized and idx_crypto_id is used
     @Query("""
         SELECT COALESCE(SUM(u.quantity), 0)
         FROM UserCryptoEntity u
-        WHERE LOWER(u.cryptoId) = LOWER(:cryptoId)
+        WHERE u.cryptoId = LOWER(:cryptoId)
     """)
     BigDecimal sumQuantityByCrypto(@Param("cryptoId") String cryptoId);
+
+    @Query("""
+        SELECT u.cryptoId AS cryptoId, SUM(u.quantity) AS quantity
+        FROM UserCryptoEntity u
+        WHERE u.cryptoId IN :cryptoIds
+        GROUP BY u.cryptoId
+    """)
+    List<CryptoQuantityView> sumQuantityByCryptoIds(@Param("cryptoIds") Collection<String> cryptoIds);
+
+    // Holdings without a stored crypto keep their quantity but add no value (LEFT JOIN + COALESCE)
+    @Query("""
+        SELECT uc.cryptoId AS cryptoId,
+               c.symbol AS symbol,
+               c.name AS name,
+               SUM(uc.quantity) AS quantity,
+               COALESCE(SUM(uc.quantity * c.usdPrice), 0) AS usdValue,
+               COALESCE(SUM(uc.quantity * c.eurPrice), 0) AS eurValue,
+               COALESCE(SUM(uc.quantity * c.btcPrice), 0) AS btcValue
+        FROM UserCryptoEntity uc
+        LEFT JOIN CryptoEntity c ON c.id = uc.cryptoId
+        GROUP BY uc.cryptoId, c.symbol, c.name
+    """)
+    List<CryptoHoldingTotalsView> sumHoldingsByCrypto();
+
+    @Query("""
+        SELECT uc.platformId AS platformId,
+               COALESCE(SUM(uc.quantity * c.usdPrice), 0) AS usdValue,
+               COALESCE(SUM(uc.quantity * c.eurPrice), 0) AS eurValue,
+               COALESCE(SUM(uc.quantity * c.btcPrice), 0) AS btcValue
+        FROM UserCryptoEntity uc
+        LEFT JOIN CryptoEntity c ON c.id = uc.cryptoId
+        GROUP BY uc.platformId
+    """)
+    List<PlatformHoldingTotalsView> sumHoldingsByPlatform();
 }
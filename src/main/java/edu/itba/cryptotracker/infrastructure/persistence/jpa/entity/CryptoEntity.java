@@ -11,7 +11,9 @@ import java.time.Instant;
  * ID = Coingecko ID (natural key): "bitcoin", "ethereum", etc.
  */
 @Entity
-@Table(name = "crypto")
+@Table(name = "crypto", indexes = {
+    @Index(name = "idx_crypto_last_updated_at", columnList = "last_updated_at")
+})
 @Data
 public class CryptoEntity {
 
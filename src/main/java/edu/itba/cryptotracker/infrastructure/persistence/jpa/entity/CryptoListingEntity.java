@@ -0,0 +1,27 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * JPA Entity para el catálogo local de monedas (GET /coins/list + ranking por market cap).
+ * Sin precios: solo lo necesario para buscar sin ir a Coingecko.
+ */
+@Entity
+@Table(name = "crypto_catalog")
+@Data
+public class CryptoListingEntity {
+
+    @Id
+    @Column(length = 100)
+    private String id;  // Coingecko ID
+
+    @Column(nullable = false, length = 100)
+    private String symbol;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "market_cap_rank")
+    private Integer marketCapRank;  // null fuera del top rankeado
+}
@@ -2,11 +2,15 @@ package edu.itba.cryptotracker.infrastructure.persistence.jpa.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.util.Locale;
+
 @Entity
-@Table(name = "platforms")
+@Table(name = "platforms", indexes = {
+    @Index(name = "idx_platform_name_normalized", columnList = "name_normalized")
+})
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PlatformEntity {
 
     @Id
@@ -15,4 +19,29 @@ public class PlatformEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
+
+    // Uppercase copy of name, kept in sync on write so case-insensitive lookups can use an index
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_normalized", nullable = false)
+    private String normalizedName;
+
+    public PlatformEntity(String id, String name) {
+        this.id = id;
+        setName(name);
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.normalizedName = normalize(name);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+        this.normalizedName = normalize(name);
+    }
+
+    private static String normalize(String name) {
+        return name != null ? name.toUpperCase(Locale.ROOT) : null;
+    }
 }
@@ -44,4 +44,10 @@ public class UserCryptoEntity {
 
     @Column(name = "crypto_id", nullable = false)
     private String cryptoId;
+
+    // Optimistic locking: updates are issued WHERE version = ?, so concurrent transfers
+    // from the same holding can't both win. Null marks a holding not yet persisted
+    @Version
+    @Column(name = "version")
+    private Long version;
 }
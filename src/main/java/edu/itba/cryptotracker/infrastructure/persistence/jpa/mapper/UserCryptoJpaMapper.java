@@ -21,7 +21,8 @@ public class UserCryptoJpaMapper {
             domain.getUserId(),
             domain.getQuantity(),
             domain.getPlatformId(),
-            domain.getCryptoId()
+            domain.getCryptoId(),
+            domain.getVersion()
         );
     }
 
@@ -35,7 +36,8 @@ public class UserCryptoJpaMapper {
             entity.getUserId(),
             entity.getQuantity(),
             entity.getPlatformId(),
-            entity.getCryptoId()
+            entity.getCryptoId(),
+            entity.getVersion()
         );
     }
 }
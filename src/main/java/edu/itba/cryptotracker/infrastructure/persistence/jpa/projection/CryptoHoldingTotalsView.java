@@ -0,0 +1,22 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface projection for holdings summed per crypto; no entity is hydrated.
+ */
+public interface CryptoHoldingTotalsView {
+    String getCryptoId();
+
+    String getSymbol();
+
+    String getName();
+
+    BigDecimal getQuantity();
+
+    BigDecimal getUsdValue();
+
+    BigDecimal getEurValue();
+
+    BigDecimal getBtcValue();
+}
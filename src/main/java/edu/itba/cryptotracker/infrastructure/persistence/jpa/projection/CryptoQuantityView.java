@@ -0,0 +1,12 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface projection for the quantity held of one crypto across all platforms.
+ */
+public interface CryptoQuantityView {
+    String getCryptoId();
+
+    BigDecimal getQuantity();
+}
@@ -0,0 +1,16 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface projection for holdings valued and summed per platform; no entity is hydrated.
+ */
+public interface PlatformHoldingTotalsView {
+    String getPlatformId();
+
+    BigDecimal getUsdValue();
+
+    BigDecimal getEurValue();
+
+    BigDecimal getBtcValue();
+}
@@ -0,0 +1,68 @@
+package edu.itba.cryptotracker.infrastructure.scheduler;
+
+import edu.itba.cryptotracker.domain.usecase.crypto.RefreshCryptoCatalogUseCase;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriority;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriorityContext;
+import edu.itba.cryptotracker.infrastructure.scheduler.config.CryptoCatalogRefreshConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rebuilds the local crypto catalogue from CoinGecko once a day.
+ *
+ * Search reads only the stored catalogue, so this is the only place that
+ * calls /coins/list. Ticks every retry-backoff; a successful run waits a full
+ * interval, a failed one is retried with a doubling backoff, so a failed first
+ * load doesn't leave search without a catalogue for a day.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "crypto.catalog-refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class CryptoCatalogScheduler {
+
+    private final RefreshCryptoCatalogUseCase refreshCryptoCatalogUseCase;
+    private final CryptoCatalogRefreshConfig config;
+
+    // Only touched by the scheduler thread: fixedDelay never overlaps runs
+    private Instant nextRunAt = Instant.MIN;
+    private int consecutiveFailures;
+
+    @Scheduled(fixedDelayString = "${crypto.catalog-refresh.retry-backoff:PT30S}",
+        initialDelayString = "${crypto.catalog-refresh.initial-delay:PT30S}")
+    public void refreshCatalog() {
+        final var now = Instant.now();
+        if (now.isBefore(nextRunAt)) {
+            return;
+        }
+
+        int refreshed = 0;
+        try {
+            refreshed = RequestPriorityContext.callAs(RequestPriority.BACKGROUND,
+                () -> refreshCryptoCatalogUseCase.refreshCatalog(config.getRankedCoins()));
+        } catch (final Exception e) {
+            log.error("Crypto catalogue refresh failed: {}", e.getMessage(), e);
+        }
+
+        if (refreshed > 0) {
+            consecutiveFailures = 0;
+            nextRunAt = now.plus(config.getInterval());
+            return;
+        }
+
+        final var backoff = retryBackoff(consecutiveFailures++);
+        nextRunAt = now.plus(backoff);
+        log.warn("Crypto catalogue not refreshed, retrying in {} s", backoff.toSeconds());
+    }
+
+    private Duration retryBackoff(final int failures) {
+        final var backoff = config.getRetryBackoff().multipliedBy(1L << Math.min(failures, 20));
+        return backoff.compareTo(config.getMaxRetryBackoff()) > 0 ? config.getMaxRetryBackoff() : backoff;
+    }
+}
@@ -0,0 +1,35 @@
+package edu.itba.cryptotracker.infrastructure.scheduler;
+
+import edu.itba.cryptotracker.domain.usecase.platform.RefreshPlatformCatalogUseCase;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriority;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriorityContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically syncs the stored platforms with CoinGecko's exchange list.
+ *
+ * The request path only reads the stored catalog, so this is the only place
+ * that calls /exchanges/list.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "platform.catalog-refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class PlatformCatalogScheduler {
+
+    private final RefreshPlatformCatalogUseCase refreshPlatformCatalogUseCase;
+
+    @Scheduled(fixedDelayString = "${platform.catalog-refresh.interval:PT6H}",
+        initialDelayString = "${platform.catalog-refresh.initial-delay:PT10S}")
+    public void refreshCatalog() {
+        try {
+            RequestPriorityContext.runAs(RequestPriority.BACKGROUND, refreshPlatformCatalogUseCase::refreshCatalog);
+        } catch (final Exception e) {
+            log.error("Platform catalog refresh failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package edu.itba.cryptotracker.infrastructure.scheduler;
+
+import edu.itba.cryptotracker.domain.usecase.crypto.RefreshStalePricesUseCase;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.config.CoingeckoApiConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RateLimitedHttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriority;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RequestPriorityContext;
+import edu.itba.cryptotracker.infrastructure.scheduler.config.PriceRefreshConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically refreshes the prices of the stalest stored cryptos.
+ *
+ * Replaces the legacy CryptoScheduler. Each run sends at most one price
+ * request per rate limit token left for CoinGecko, fetches the prices in
+ * batched calls at BACKGROUND priority and writes them back in one JDBC batch.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "crypto.price-refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceRefreshScheduler {
+
+    private static final String METRIC_PREFIX = "crypto.price.refresh";
+
+    private final RefreshStalePricesUseCase refreshStalePricesUseCase;
+    private final RateLimitedHttpClient rateLimitedHttpClient;
+    private final CoingeckoApiConfig coingeckoApiConfig;
+    private final PriceRefreshConfig config;
+
+    private final AtomicLong lastRunDurationMillis = new AtomicLong();
+    private final AtomicLong lastRunRefreshed = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter refreshedTotal;
+
+    public PriceRefreshScheduler(final RefreshStalePricesUseCase refreshStalePricesUseCase,
+                                 final RateLimitedHttpClient rateLimitedHttpClient,
+                                 final CoingeckoApiConfig coingeckoApiConfig,
+                                 final PriceRefreshConfig config,
+                                 final MeterRegistry meterRegistry) {
+        this.refreshStalePricesUseCase = refreshStalePricesUseCase;
+        this.rateLimitedHttpClient = rateLimitedHttpClient;
+        this.coingeckoApiConfig = coingeckoApiConfig;
+        this.config = config;
+
+        TimeGauge.builder(METRIC_PREFIX + ".last.duration", lastRunDurationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Duration of the last price refresh run")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".last.rows", lastRunRefreshed, AtomicLong::get)
+            .description("Cryptos refreshed by the last run")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicLong::get)
+            .description("Stored cryptos whose prices are stale")
+            .register(meterRegistry);
+        this.refreshedTotal = Counter.builder(METRIC_PREFIX + ".rows")
+            .description("Cryptos refreshed since startup")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${crypto.price-refresh.interval:PT1M}",
+        initialDelayString = "${crypto.price-refresh.interval:PT1M}")
+    public void refreshStalePrices() {
+        final int requestBudget = nextRequestBudget();
+        if (requestBudget == 0) {
+            log.info("Skipping price refresh, rate limit budget is reserved for user requests");
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            final var result = RequestPriorityContext.callAs(RequestPriority.BACKGROUND,
+                () -> refreshStalePricesUseCase.refreshStalePrices(
+                    config.getStaleAfter(), config.getMaxBatchSize(), requestBudget));
+
+            lastRunRefreshed.set(result.refreshed());
+            backlog.set(result.backlog());
+            refreshedTotal.increment(result.refreshed());
+        } catch (final Exception e) {
+            log.error("Price refresh failed: {}", e.getMessage(), e);
+        } finally {
+            lastRunDurationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    // Requests this run may send; how many ids fit in each is up to the provider's chunking
+    int nextRequestBudget() {
+        final long usableTokens = rateLimitedHttpClient.availableTokens(coingeckoApiConfig.getBaseUrl())
+            - config.getReservedTokens();
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, usableTokens));
+    }
+}
@@ -0,0 +1,44 @@
+package edu.itba.cryptotracker.infrastructure.scheduler.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background crypto catalogue refresh.
+ *
+ * Populated by Spring from application.yml:
+ * crypto.catalog-refresh.enabled
+ * crypto.catalog-refresh.interval
+ * crypto.catalog-refresh.initial-delay
+ * crypto.catalog-refresh.ranked-coins
+ * crypto.catalog-refresh.retry-backoff
+ * crypto.catalog-refresh.max-retry-backoff
+ *
+ * Each run costs one /coins/list call plus ranked-coins / 250 /coins/markets calls.
+ * A failed run is retried after retry-backoff, doubling up to max-retry-backoff,
+ * instead of waiting a whole interval with an empty catalogue.
+ */
+@Data
+@Builder
+public class CryptoCatalogRefreshConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private Duration interval = Duration.ofDays(1);
+
+    @Builder.Default
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private int rankedCoins = 1000;
+
+    @Builder.Default
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private Duration maxRetryBackoff = Duration.ofMinutes(15);
+}
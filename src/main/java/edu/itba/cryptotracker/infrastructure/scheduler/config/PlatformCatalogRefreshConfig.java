@@ -0,0 +1,28 @@
+package edu.itba.cryptotracker.infrastructure.scheduler.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background platform catalog refresh.
+ *
+ * Populated by Spring from application.yml:
+ * platform.catalog-refresh.enabled
+ * platform.catalog-refresh.interval
+ * platform.catalog-refresh.initial-delay
+ */
+@Data
+@Builder
+public class PlatformCatalogRefreshConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private Duration interval = Duration.ofHours(6);
+
+    @Builder.Default
+    private Duration initialDelay = Duration.ofSeconds(10);
+}
@@ -0,0 +1,40 @@
+package edu.itba.cryptotracker.infrastructure.scheduler.config;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background price refresh.
+ *
+ * Populated by Spring from application.yml:
+ * crypto.price-refresh.enabled
+ * crypto.price-refresh.interval
+ * crypto.price-refresh.stale-after
+ * crypto.price-refresh.max-batch-size
+ * crypto.price-refresh.reserved-tokens
+ *
+ * Each run sends at most (available tokens - reserved tokens) price requests and
+ * refreshes at most max-batch-size cryptos, so it never spends the budget kept for
+ * user requests. How many ids fit in one request is decided by the provider's chunking.
+ */
+@Data
+@Builder
+public class PriceRefreshConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private Duration interval = Duration.ofMinutes(1);
+
+    @Builder.Default
+    private Duration staleAfter = Duration.ofMinutes(5);
+
+    @Builder.Default
+    private int maxBatchSize = 500;
+
+    @Builder.Default
+    private int reservedTokens = 10;
+}
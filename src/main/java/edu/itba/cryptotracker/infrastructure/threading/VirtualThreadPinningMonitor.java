@@ -0,0 +1,80 @@
+package edu.itba.cryptotracker.infrastructure.threading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier.
+ *
+ * A virtual thread that blocks inside a synchronized block (or a native frame)
+ * keeps its carrier busy, and with only as many carriers as cores a few of those
+ * stall every request. Our own code uses ReentrantLock, but drivers and libraries
+ * may not, so pins are streamed from JFR, logged with the frames that caused them
+ * and counted in jvm.threads.virtual.pinned.
+ *
+ * Only active when spring.threads.virtual.enabled is true. For a full stack of
+ * each pin during a load test, run with -Djdk.tracePinnedThreads=full.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Same as the JFR default: shorter pins don't hold a carrier long enough to matter
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int LOGGED_FRAMES = 5;
+
+    private final Counter pinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry) {
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+            .description("Virtual threads that blocked while pinned to their carrier")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        pinned.increment();
+
+        final var frames = event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::describe)
+            .collect(Collectors.joining(" <- "));
+
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frames);
+    }
+
+    private static String describe(final RecordedFrame frame) {
+        final var method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
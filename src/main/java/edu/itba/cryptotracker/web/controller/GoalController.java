@@ -45,7 +45,7 @@ public class GoalController {
     @GetMapping
     public ResponseEntity<List<GoalResponseDTO>> listGoals() {
         log.info("GET {}", "/goals");
-        final var goals = listGoalsUC.execute();
+        final var goals = listGoalsUC.executeWithProgress();
         final var response = goals.stream().map(mapper::toResponse).toList();
         return ResponseEntity.ok(response);
     }
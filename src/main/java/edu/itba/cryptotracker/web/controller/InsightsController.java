@@ -0,0 +1,40 @@
+package edu.itba.cryptotracker.web.controller;
+
+import edu.itba.cryptotracker.domain.usecase.insights.PortfolioValuationUseCase;
+import edu.itba.cryptotracker.web.dto.insights.BalancesResponseDTO;
+import edu.itba.cryptotracker.web.presenter.insights.InsightsRestMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/insights")
+@RequiredArgsConstructor
+@Tag(name = "Insights", description = "Portfolio valuation and insights")
+public class InsightsController {
+
+    private final PortfolioValuationUseCase portfolioValuationUseCase;
+    private final InsightsRestMapper mapper;
+
+    @Operation(
+        summary = "Get total balances",
+        description = "Values all holdings at their last known prices in USD, EUR and BTC, with per-crypto and per-platform percentages"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved balances")
+    })
+    @GetMapping("/balances")
+    public ResponseEntity<BalancesResponseDTO> getBalances() {
+        log.info("GET /api/v1/insights/balances");
+
+        return ResponseEntity.ok(mapper.toBalancesResponse(portfolioValuationUseCase.valuePortfolio()));
+    }
+}
@@ -3,6 +3,7 @@ package edu.itba.cryptotracker.web.controller;
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
 import edu.itba.cryptotracker.domain.usecase.platform.FindPlatformByIdUseCase;
 import edu.itba.cryptotracker.domain.usecase.platform.GetAllPlatformsUseCase;
+import edu.itba.cryptotracker.domain.usecase.platform.SearchPlatformsUseCase;
 import edu.itba.cryptotracker.web.dto.platform.PlatformResponseDTO;
 import edu.itba.cryptotracker.web.presenter.platform.PlatformRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,11 +30,12 @@ public class PlatformController {
 
     private final GetAllPlatformsUseCase getAllPlatformsUseCase;
     private final FindPlatformByIdUseCase getPlatformByIdUseCase; // ← Cambiado nombre
+    private final SearchPlatformsUseCase searchPlatformsUseCase;
     private final PlatformRestMapper mapper;
 
     @Operation(
         summary = "List all platforms",
-        description = "Get all cached platforms. If cache is empty, fetches from Coingecko API."
+        description = "Get all stored platforms. The catalog is synced with Coingecko in the background."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved platforms"),
@@ -83,7 +85,7 @@ public class PlatformController {
 
     @Operation(
         summary = "Search platforms",
-        description = "Search platforms by name or ID pattern"
+        description = "Type-ahead search over platform names and IDs, best matches first"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Search results returned"),
@@ -91,21 +93,15 @@ public class PlatformController {
     @GetMapping("/search")
     public ResponseEntity<List<PlatformResponseDTO>> searchPlatforms(
         @Parameter(description = "Search query", example = "binance")
-        @RequestParam(required = false) String query
+        @RequestParam(required = false) String query,
+        @Parameter(description = "Maximum number of results (1-100). Every match is returned when omitted", example = "10")
+        @RequestParam(required = false) Integer limit
     ) {
         log.debug("REST request to search platforms with query: {}", query);
 
-        List<Platform> platforms = getAllPlatformsUseCase.getAllPlatforms();
-
-        if (query != null && !query.isBlank()) {
-            String lowerQuery = query.toLowerCase();
-            platforms = platforms.stream()
-                .filter(p ->
-                    p.getId().toLowerCase().contains(lowerQuery) ||
-                        p.getName().toLowerCase().contains(lowerQuery)
-                )
-                .toList();
-        }
+        List<Platform> platforms = limit == null
+            ? searchPlatformsUseCase.search(query)
+            : searchPlatformsUseCase.search(query, limit);
 
         List<PlatformResponseDTO> response = mapper.toResponseDTOs(platforms);
         return ResponseEntity.ok(response);
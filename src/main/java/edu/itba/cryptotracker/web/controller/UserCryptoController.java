@@ -35,6 +35,7 @@ public class UserCryptoController {
     private final UpdateUserCryptoUseCase updateUseCase;
     private final DeleteUserCryptoUseCase deleteUseCase;
     private final TransferCryptoBetweenPlatformsUseCase transferUseCase;
+    private final BatchTransferCryptoUseCase batchTransferUseCase;
 
     private final UserCryptoRestMapper mapper;
 
@@ -202,7 +203,8 @@ public class UserCryptoController {
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Transfer completed successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid transfer parameters"),
-        @ApiResponse(responseCode = "404", description = "Source user crypto not found")
+        @ApiResponse(responseCode = "404", description = "Source user crypto not found"),
+        @ApiResponse(responseCode = "409", description = "Holding kept changing concurrently, retry later")
     })
     @PostMapping("/transfer")
     public ResponseEntity<TransferCryptoResponseDTO> transferCrypto(
@@ -224,4 +226,29 @@ public class UserCryptoController {
         return ResponseEntity.ok(mapper.toTransferResponse(transferResult));
 
     }
+
+    @Operation(
+        summary = "Transfer crypto between platforms in batch",
+        description = "Applies several transfers in a single transaction: either all of them complete or none does"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "All transfers completed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid transfer parameters in some transfer"),
+        @ApiResponse(responseCode = "404", description = "Source user crypto or destination platform not found"),
+        @ApiResponse(responseCode = "409", description = "Holding kept changing concurrently, retry later")
+    })
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<BatchTransferCryptoResponseDTO> transferCryptoBatch(
+        @Valid @RequestBody BatchTransferCryptoRequestDTO request) {
+        log.info("POST /api/user-cryptos/transfer/batch - transfers: {}", request.transfers().size());
+
+        var transferRequests = request.transfers()
+            .stream()
+            .map(mapper::toTransferRequest)
+            .toList();
+
+        var transferResults = batchTransferUseCase.execute(transferRequests);
+
+        return ResponseEntity.ok(mapper.toBatchTransferResponse(transferResults));
+    }
 }
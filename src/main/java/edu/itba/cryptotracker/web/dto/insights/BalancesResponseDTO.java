@@ -0,0 +1,27 @@
+package edu.itba.cryptotracker.web.dto.insights;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BalancesResponseDTO(
+    TotalsDTO totals,
+    List<CryptoBalanceDTO> cryptos,
+    List<PlatformBalanceDTO> platforms
+) {
+    public record TotalsDTO(BigDecimal totalUSDBalance, BigDecimal totalEURBalance, BigDecimal totalBTCBalance) {}
+
+    public record CryptoBalanceDTO(
+        String cryptoId,
+        String symbol,
+        String name,
+        BigDecimal quantity,
+        TotalsDTO balances,
+        BigDecimal percentage
+    ) {}
+
+    public record PlatformBalanceDTO(
+        String platformId,
+        TotalsDTO balances,
+        BigDecimal percentage
+    ) {}
+}
@@ -0,0 +1,12 @@
+package edu.itba.cryptotracker.web.dto.usercrypto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record BatchTransferCryptoRequestDTO(
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = 100, message = "At most 100 transfers per batch")
+    List<@Valid @NotNull TransferCryptoRequestDTO> transfers
+) {}
@@ -0,0 +1,9 @@
+package edu.itba.cryptotracker.web.dto.usercrypto;
+
+import java.util.List;
+
+public record BatchTransferCryptoResponseDTO(
+    boolean success,
+    String message,
+    List<TransferCryptoResponseDTO> transfers
+) {}
@@ -4,6 +4,9 @@ import edu.itba.cryptotracker.domain.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -122,6 +125,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
     }
 
+    // Holding changed (or created) by a concurrent request more times than the retries allow
+    @ExceptionHandler({OptimisticLockingFailureException.class, DuplicateKeyException.class})
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+        DataAccessException ex,
+        HttpServletRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Conflict")
+            .message("The holding was modified concurrently, please retry")
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     // ============= Input Validation Exceptions =============
 
     @ExceptionHandler(IllegalArgumentException.class)
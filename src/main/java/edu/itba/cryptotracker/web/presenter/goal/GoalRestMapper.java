@@ -1,5 +1,6 @@
 package edu.itba.cryptotracker.web.presenter.goal;
 
+import edu.itba.cryptotracker.domain.model.GoalProgressModel;
 import edu.itba.cryptotracker.domain.usecase.usercrypto.UserCryptoQueryUseCase;
 import edu.itba.cryptotracker.web.dto.goal.GoalResponseDTO;
 import edu.itba.cryptotracker.domain.entity.goal.Goal;
@@ -14,23 +15,24 @@ public class GoalRestMapper {
 
     private final UserCryptoQueryUseCase userCryptoQueryUseCase;
 
+    // Single goal: looks up the held quantity itself
     public GoalResponseDTO toResponse(final Goal goal) {
-        final String cryptoId = goal.getCrypto().getId();
-        final BigDecimal actual = userCryptoQueryUseCase.getTotalQuantityByCryptoId(cryptoId);
+        final BigDecimal actual = userCryptoQueryUseCase.getTotalQuantityByCryptoId(goal.getCrypto().getId());
+        return toResponse(GoalProgressModel.of(goal, actual));
+    }
 
-        final float progress = goal.getProgress(actual);
-        final BigDecimal remaining = goal.getRemainingQuantity(actual);
-        final BigDecimal moneyNeeded = goal.getMoneyNeeded(remaining);
+    public GoalResponseDTO toResponse(final GoalProgressModel progress) {
+        final Goal goal = progress.goal();
 
         return new GoalResponseDTO(
             goal.getId(),
-            cryptoId,
+            goal.getCrypto().getId(),
             goal.getCrypto().getName(),
             goal.getGoalQuantity(),
-            actual,
-            progress,
-            remaining,
-            moneyNeeded
+            progress.actualQuantity(),
+            progress.progressPercent(),
+            progress.remainingQuantity(),
+            progress.moneyNeededUsd()
         );
     }
 }
@@ -0,0 +1,43 @@
+package edu.itba.cryptotracker.web.presenter.insights;
+
+import edu.itba.cryptotracker.domain.model.BalancesModel;
+import edu.itba.cryptotracker.domain.model.CryptoBalanceModel;
+import edu.itba.cryptotracker.domain.model.PlatformBalanceModel;
+import edu.itba.cryptotracker.domain.model.PortfolioValuationModel;
+import edu.itba.cryptotracker.web.dto.insights.BalancesResponseDTO;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InsightsRestMapper {
+
+    public BalancesResponseDTO toBalancesResponse(PortfolioValuationModel model) {
+        return new BalancesResponseDTO(
+            toTotals(model.totals()),
+            model.cryptos().stream().map(this::toCryptoBalance).toList(),
+            model.platforms().stream().map(this::toPlatformBalance).toList()
+        );
+    }
+
+    private BalancesResponseDTO.TotalsDTO toTotals(BalancesModel balances) {
+        return new BalancesResponseDTO.TotalsDTO(balances.usd(), balances.eur(), balances.btc());
+    }
+
+    private BalancesResponseDTO.CryptoBalanceDTO toCryptoBalance(CryptoBalanceModel model) {
+        return new BalancesResponseDTO.CryptoBalanceDTO(
+            model.cryptoId(),
+            model.symbol(),
+            model.name(),
+            model.quantity(),
+            toTotals(model.balances()),
+            model.percentage()
+        );
+    }
+
+    private BalancesResponseDTO.PlatformBalanceDTO toPlatformBalance(PlatformBalanceModel model) {
+        return new BalancesResponseDTO.PlatformBalanceDTO(
+            model.platformId(),
+            toTotals(model.balances()),
+            model.percentage()
+        );
+    }
+}
@@ -1,11 +1,16 @@
 package edu.itba.cryptotracker.web.presenter.usercrypto;
 
+import edu.itba.cryptotracker.domain.model.TransferCryptoRequestModel;
 import edu.itba.cryptotracker.domain.model.TransferCryptoResponseModel;
+import edu.itba.cryptotracker.web.dto.usercrypto.BatchTransferCryptoResponseDTO;
+import edu.itba.cryptotracker.web.dto.usercrypto.TransferCryptoRequestDTO;
 import edu.itba.cryptotracker.web.dto.usercrypto.TransferCryptoResponseDTO;
 import edu.itba.cryptotracker.web.dto.usercrypto.UserCryptoResponseDTO;
 import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class UserCryptoRestMapper {
 
@@ -31,4 +36,23 @@ public class UserCryptoRestMapper {
             model.quantityReceived()
         );
     }
+
+    public TransferCryptoRequestModel toTransferRequest(TransferCryptoRequestDTO dto) {
+        return new TransferCryptoRequestModel(
+            dto.userCryptoId(),
+            dto.fromPlatformId(),
+            dto.toPlatformId(),
+            dto.quantityToTransfer(),
+            dto.networkFee(),
+            dto.sendFullQuantity()
+        );
+    }
+
+    public BatchTransferCryptoResponseDTO toBatchTransferResponse(List<TransferCryptoResponseModel> models) {
+        return new BatchTransferCryptoResponseDTO(
+            true,
+            models.size() + " transfers completed successfully",
+            models.stream().map(this::toTransferResponse).toList()
+        );
+    }
 }
@@ -0,0 +1,69 @@
+package edu.itba.cryptotracker.application.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hold waiting callers until the result is published")
+    void shouldHoldWaitingCallersUntilResultIsPublished() throws Exception {
+        // Given - the leader's result is waiting for its transaction to commit
+        final var onPublish = new AtomicReference<Runnable>();
+        final BiConsumer<Runnable, Runnable> publishWhen = (publish, discard) -> onPublish.set(publish);
+        singleFlight.execute("bitcoin", () -> "leader", publishWhen);
+
+        // When
+        final var follower = CompletableFuture.supplyAsync(
+            () -> singleFlight.execute("bitcoin", () -> "follower"), executor);
+
+        // Then
+        Thread.sleep(100);
+        assertThat(follower.isDone(), is(false));
+
+        onPublish.get().run();
+        assertThat(follower.get(5, TimeUnit.SECONDS), is("leader"));
+        assertThat(singleFlight.inFlightCount(), is(0));
+    }
+
+    @Test
+    @DisplayName("Should let a waiting caller run the action again when the result is discarded")
+    void shouldRunActionAgainWhenResultIsDiscarded() throws Exception {
+        // Given - the leader's transaction will roll back
+        final var onDiscard = new AtomicReference<Runnable>();
+        final var calls = new AtomicInteger();
+        singleFlight.execute("bitcoin", () -> "leader-" + calls.incrementAndGet(),
+            (publish, discard) -> onDiscard.set(discard));
+
+        final var follower = CompletableFuture.supplyAsync(
+            () -> singleFlight.execute("bitcoin", () -> "follower-" + calls.incrementAndGet()), executor);
+        Thread.sleep(100);
+
+        // When
+        onDiscard.get().run();
+
+        // Then
+        assertThat(follower.get(5, TimeUnit.SECONDS), is("follower-2"));
+        assertThat(singleFlight.inFlightCount(), is(0));
+    }
+}
@@ -0,0 +1,69 @@
+package edu.itba.cryptotracker.application.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AfterCommitTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run the action right away outside a transaction")
+    void shouldRunRightAwayOutsideTransaction() {
+        // When
+        AfterCommit.run(() -> events.add("commit"));
+
+        // Then
+        assertThat(events, contains("commit"));
+    }
+
+    @Test
+    @DisplayName("Should defer the action until the transaction commits")
+    void shouldDeferUntilCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(() -> events.add("commit"), () -> events.add("rollback"));
+
+        // Then
+        assertThat(events, is(empty()));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(events, contains("commit"));
+    }
+
+    @Test
+    @DisplayName("Should run the rollback action instead when the transaction rolls back")
+    void shouldRunRollbackActionOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(() -> events.add("commit"), () -> events.add("rollback"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(events, contains("rollback"));
+    }
+
+    private static void complete(final int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
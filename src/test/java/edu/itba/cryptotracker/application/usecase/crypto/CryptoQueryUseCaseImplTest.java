@@ -2,8 +2,14 @@ package edu.itba.cryptotracker.application.usecase.crypto;
 
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
 import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
+import edu.itba.cryptotracker.domain.gateway.CryptoCatalogGateway;
 import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
 import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import edu.itba.cryptotracker.infrastructure.cache.CryptoCache;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.CryptoJpaGatewayImpl;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.CryptoJpaRepository;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.CryptoJpaMapper;
 import edu.itba.cryptotracker.util.TestDataFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -31,6 +42,9 @@ class CryptoQueryUseCaseImplTest {
     @Mock
     private CryptoProviderGateway cryptoProvider;
 
+    @Mock
+    private CryptoCatalogGateway cryptoCatalog;
+
     @InjectMocks
     private CryptoQueryUseCaseImpl cryptoQueryUseCase;
 
@@ -164,61 +178,126 @@ class CryptoQueryUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("Should search cryptos and cache results when query is provided")
-    void shouldSearchCryptosAndCacheResults() {
+    @DisplayName("Should search stored cryptos instead of the provider while the catalogue is empty")
+    void shouldSearchStoredCryptosWhileCatalogueIsEmpty() {
+        // Given
+        String query = "bit";
+        int limit = 10;
+        List<Crypto> stored = List.of(TestDataFactory.createBitcoin());
+        when(cryptoRepository.search(query, limit)).thenReturn(stored);
+
+        // When
+        List<Crypto> result = cryptoQueryUseCase.search(query, limit);
+
+        // Then
+        assertThat(result, is(stored));
+        verify(cryptoRepository, never()).save(any(Crypto.class));
+        verifyNoInteractions(cryptoProvider);
+    }
+
+    @Test
+    @DisplayName("Should match against the local catalogue and only hydrate the top results")
+    void shouldMatchAgainstLocalCatalogueAndOnlyHydrateTopResults() {
         // Given
         String query = "bit";
         int limit = 10;
-        List<Crypto> searchResults = List.of(TestDataFactory.createBitcoin());
-        when(cryptoProvider.searchCryptos(query, limit)).thenReturn(searchResults);
+        List<Crypto> hydrated = List.of(TestDataFactory.createBitcoin());
+        when(cryptoCatalog.count()).thenReturn(15_000L);
+        when(cryptoCatalog.search(query, limit))
+            .thenReturn(List.of(new CryptoListingModel("bitcoin", "btc", "Bitcoin", 1)));
+        when(cryptoProvider.fetchCryptos(List.of("bitcoin"))).thenReturn(hydrated);
+
+        // When
+        List<Crypto> result = cryptoQueryUseCase.search(query, limit);
+
+        // Then
+        assertThat(result, is(hydrated));
+        verify(cryptoProvider, never()).searchCryptos(anyString(), anyInt());
+        verify(cryptoRepository, never()).save(any(Crypto.class));
+    }
+
+    @Test
+    @DisplayName("Should return every coin sharing a searched symbol without persisting them")
+    void shouldReturnCoinsSharingSymbolWithoutPersistingThem() {
+        // Given - an exact symbol match hits several coins, and crypto.symbol is unique
+        String query = "eth";
+        int limit = 10;
+        Crypto ethereum = TestDataFactory.createEthereum();
+        Crypto wormholeEthereum = Crypto.create(
+            "ethereum-wormhole", "ETH", "Ethereum (Wormhole)", null,
+            TestDataFactory.createEthereumPrices());
+        when(cryptoCatalog.count()).thenReturn(15_000L);
+        when(cryptoCatalog.search(query, limit)).thenReturn(List.of(
+            new CryptoListingModel("ethereum", "eth", "Ethereum", 2),
+            new CryptoListingModel("ethereum-wormhole", "eth", "Ethereum (Wormhole)", null)));
+        when(cryptoProvider.fetchCryptos(List.of("ethereum", "ethereum-wormhole")))
+            .thenReturn(List.of(ethereum, wormholeEthereum));
+
+        // When
+        List<Crypto> result = cryptoQueryUseCase.search(query, limit);
+
+        // Then
+        assertThat(result, contains(ethereum, wormholeEthereum));
+        verifyNoInteractions(cryptoRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve last-known prices for matches the provider could not price")
+    void shouldServeLastKnownPricesForMatchesProviderCouldNotPrice() {
+        // Given
+        String query = "coin";
+        int limit = 10;
+        Crypto bitcoin = TestDataFactory.createBitcoin();
+        Crypto storedEthereum = TestDataFactory.createEthereum();
+        when(cryptoCatalog.count()).thenReturn(15_000L);
+        when(cryptoCatalog.search(query, limit)).thenReturn(List.of(
+            new CryptoListingModel("bitcoin", "btc", "Bitcoin", 1),
+            new CryptoListingModel("ethereum", "eth", "Ethereum", 2)));
+        when(cryptoProvider.fetchCryptos(List.of("bitcoin", "ethereum"))).thenReturn(List.of(bitcoin));
+        when(cryptoRepository.findAllByIds(List.of("ethereum"))).thenReturn(List.of(storedEthereum));
 
         // When
         List<Crypto> result = cryptoQueryUseCase.search(query, limit);
 
         // Then
-        assertThat(result, is(searchResults));
-        verify(cryptoProvider, times(1)).searchCryptos(query, limit);
-        verify(cryptoRepository, times(1)).save(any(Crypto.class));
-        verify(cryptoProvider, never()).fetchTopCryptos(anyInt());
+        assertThat(result, contains(bitcoin, storedEthereum));
+        verify(cryptoRepository, never()).save(any(Crypto.class));
     }
 
     @Test
-    @DisplayName("Should fetch top cryptos when query is null")
-    void shouldFetchTopCryptosWhenQueryIsNull() {
+    @DisplayName("Should list stored cryptos when query is null and the catalogue is empty")
+    void shouldListStoredCryptosWhenQueryIsNull() {
         // Given
         int limit = 20;
-        List<Crypto> topCryptos = List.of(
+        List<Crypto> stored = List.of(
                 TestDataFactory.createBitcoin(),
                 TestDataFactory.createEthereum()
         );
-        when(cryptoProvider.fetchTopCryptos(limit)).thenReturn(topCryptos);
+        when(cryptoRepository.search("", limit)).thenReturn(stored);
 
         // When
         List<Crypto> result = cryptoQueryUseCase.search(null, limit);
 
         // Then
-        assertThat(result, is(topCryptos));
-        verify(cryptoProvider, times(1)).fetchTopCryptos(limit);
-        verify(cryptoRepository, times(2)).save(any(Crypto.class));
-        verify(cryptoProvider, never()).searchCryptos(anyString(), anyInt());
+        assertThat(result, is(stored));
+        verifyNoInteractions(cryptoProvider);
     }
 
     @Test
-    @DisplayName("Should fetch top cryptos when query is blank")
-    void shouldFetchTopCryptosWhenQueryIsBlank() {
+    @DisplayName("Should list stored cryptos when query is blank and the catalogue is empty")
+    void shouldListStoredCryptosWhenQueryIsBlank() {
         // Given
         String blankQuery = "   ";
         int limit = 15;
-        List<Crypto> topCryptos = List.of(TestDataFactory.createBitcoin());
-        when(cryptoProvider.fetchTopCryptos(limit)).thenReturn(topCryptos);
+        List<Crypto> stored = List.of(TestDataFactory.createBitcoin());
+        when(cryptoRepository.search("", limit)).thenReturn(stored);
 
         // When
         List<Crypto> result = cryptoQueryUseCase.search(blankQuery, limit);
 
         // Then
-        assertThat(result, is(topCryptos));
-        verify(cryptoProvider, times(1)).fetchTopCryptos(limit);
-        verify(cryptoRepository, times(1)).save(any(Crypto.class));
+        assertThat(result, is(stored));
+        verifyNoInteractions(cryptoProvider);
     }
 
     @Test
@@ -227,39 +306,97 @@ class CryptoQueryUseCaseImplTest {
         // Given
         String query = "nonexistent";
         int limit = 10;
-        List<Crypto> emptyResults = List.of();
-        when(cryptoProvider.searchCryptos(query, limit)).thenReturn(emptyResults);
+        when(cryptoRepository.search(query, limit)).thenReturn(List.of());
 
         // When
         List<Crypto> result = cryptoQueryUseCase.search(query, limit);
 
         // Then
         assertThat(result, is(empty()));
-        verify(cryptoProvider, times(1)).searchCryptos(query, limit);
-        verify(cryptoRepository, never()).save(any(Crypto.class));
+        verifyNoInteractions(cryptoProvider);
     }
 
     @Test
-    @DisplayName("Should continue processing when caching fails for one crypto")
-    void shouldContinueProcessingWhenCachingFailsForOneCrypto() {
+    @DisplayName("Should call the provider once for concurrent misses on the same ID")
+    void shouldCallProviderOnceForConcurrentMisses() throws Exception {
         // Given
-        String query = "crypto";
-        int limit = 10;
-        Crypto bitcoin = TestDataFactory.createBitcoin();
-        Crypto ethereum = TestDataFactory.createEthereum();
-        List<Crypto> searchResults = List.of(bitcoin, ethereum);
-        
-        when(cryptoProvider.searchCryptos(query, limit)).thenReturn(searchResults);
-        doThrow(new RuntimeException("Database error")).when(cryptoRepository).save(bitcoin);
-        doNothing().when(cryptoRepository).save(ethereum);
+        final int callers = 16;
+        final Crypto bitcoin = TestDataFactory.createBitcoin();
+        final var allMissed = new CountDownLatch(callers);
+
+        when(cryptoRepository.findById("bitcoin")).thenAnswer(invocation -> {
+            allMissed.countDown();
+            return Optional.empty();
+        });
+        when(cryptoProvider.fetchCrypto("bitcoin")).thenAnswer(invocation -> {
+            // Hold the fetch open until every caller has missed the cache
+            allMissed.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            return Optional.of(bitcoin);
+        });
 
         // When
-        List<Crypto> result = cryptoQueryUseCase.search(query, limit);
-
-        // Then
-        assertThat(result, is(searchResults));
-        verify(cryptoProvider, times(1)).searchCryptos(query, limit);
+        final var executor = Executors.newFixedThreadPool(callers);
+        final List<Future<Crypto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                final String id = i % 2 == 0 ? "bitcoin" : " BITCOIN ";
+                results.add(executor.submit(() -> cryptoQueryUseCase.findById(id)));
+            }
+
+            // Then
+            for (Future<Crypto> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), is(bitcoin));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(cryptoProvider, times(1)).fetchCrypto("bitcoin");
         verify(cryptoRepository, times(1)).save(bitcoin);
-        verify(cryptoRepository, times(1)).save(ethereum);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should call the provider once for concurrent misses through the real repository gateway")
+    void shouldCallProviderOnceForConcurrentMissesThroughRealGateway() throws Exception {
+        // Given - the JPA gateway over mocked storage: every lookup misses the cache and the table
+        final int callers = 16;
+        final Crypto bitcoin = TestDataFactory.createBitcoin();
+        final var allMissed = new CountDownLatch(callers);
+
+        final CryptoJpaRepository jpaRepository = mock(CryptoJpaRepository.class);
+        final CryptoCache cryptoCache = mock(CryptoCache.class);
+        when(cryptoCache.get(eq("bitcoin"), any())).thenReturn(Optional.empty());
+        when(jpaRepository.findById("bitcoin")).thenAnswer(invocation -> {
+            allMissed.countDown();
+            return Optional.empty();
+        });
+        final var gateway = new CryptoJpaGatewayImpl(jpaRepository, mock(CryptoJpaMapper.class), cryptoCache, null, null);
+        final var useCase = new CryptoQueryUseCaseImpl(gateway, cryptoProvider, cryptoCatalog);
+
+        when(cryptoProvider.fetchCrypto("bitcoin")).thenAnswer(invocation -> {
+            allMissed.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            return Optional.of(bitcoin);
+        });
+
+        // When
+        final var executor = Executors.newFixedThreadPool(callers);
+        final List<Future<Crypto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> useCase.findById("bitcoin")));
+            }
+
+            // Then
+            for (Future<Crypto> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), is(bitcoin));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(cryptoProvider, times(1)).fetchCrypto("bitcoin");
+        verify(jpaRepository, times(1)).save(any());
+    }
+}
@@ -0,0 +1,97 @@
+package edu.itba.cryptotracker.application.usecase.crypto;
+
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
+import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.PriceRefreshResultModel;
+import edu.itba.cryptotracker.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshStalePricesUseCaseImplTest {
+
+    @Mock
+    private CryptoRepositoryGateway cryptoRepository;
+
+    @Mock
+    private CryptoProviderGateway cryptoProvider;
+
+    @InjectMocks
+    private RefreshStalePricesUseCaseImpl refreshStalePricesUseCase;
+
+    @Test
+    @DisplayName("Should refresh stale cryptos with one batched price fetch and one batch write")
+    void shouldRefreshStaleCryptosInBatch() {
+        // Given
+        final List<String> staleIds = List.of("bitcoin", "ethereum");
+        final Map<String, LastKnownPrices> prices = Map.of(
+            "bitcoin", TestDataFactory.createBitcoinPrices(),
+            "ethereum", TestDataFactory.createEthereumPrices()
+        );
+        when(cryptoRepository.findStaleIds(any(Instant.class), eq(100))).thenReturn(staleIds);
+        when(cryptoProvider.limitToPriceRequests(staleIds, 5)).thenReturn(staleIds);
+        when(cryptoProvider.fetchPrices(staleIds)).thenReturn(prices);
+        when(cryptoRepository.updatePrices(eq(prices), any(Instant.class))).thenReturn(2);
+        when(cryptoRepository.countStale(any(Instant.class))).thenReturn(3L);
+
+        // When
+        final PriceRefreshResultModel result = refreshStalePricesUseCase.refreshStalePrices(Duration.ofMinutes(5), 100, 5);
+
+        // Then
+        assertThat(result, is(new PriceRefreshResultModel(2, 2, 3)));
+        verify(cryptoProvider, times(1)).fetchPrices(staleIds);
+        verify(cryptoRepository, times(1)).updatePrices(eq(prices), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should only report the backlog when there is no budget for this run")
+    void shouldOnlyReportBacklogWhenThereIsNoBudget() {
+        // Given
+        when(cryptoRepository.countStale(any(Instant.class))).thenReturn(42L);
+
+        // When
+        final PriceRefreshResultModel result = refreshStalePricesUseCase.refreshStalePrices(Duration.ofMinutes(5), 100, 0);
+
+        // Then
+        assertThat(result.backlog(), is(42L));
+        verify(cryptoRepository, never()).findStaleIds(any(), anyInt());
+        verifyNoInteractions(cryptoProvider);
+    }
+
+    @Test
+    @DisplayName("Should only price the stale cryptos that fit in the request budget")
+    void shouldOnlyPriceStaleCryptosThatFitInRequestBudget() {
+        // Given - the provider can only fit bitcoin in one request
+        final List<String> staleIds = List.of("bitcoin", "ethereum");
+        final Map<String, LastKnownPrices> prices = Map.of("bitcoin", TestDataFactory.createBitcoinPrices());
+        when(cryptoRepository.findStaleIds(any(Instant.class), eq(100))).thenReturn(staleIds);
+        when(cryptoProvider.limitToPriceRequests(staleIds, 1)).thenReturn(List.of("bitcoin"));
+        when(cryptoProvider.fetchPrices(List.of("bitcoin"))).thenReturn(prices);
+        when(cryptoRepository.updatePrices(eq(prices), any(Instant.class))).thenReturn(1);
+        when(cryptoRepository.countStale(any(Instant.class))).thenReturn(1L);
+
+        // When
+        final PriceRefreshResultModel result = refreshStalePricesUseCase.refreshStalePrices(Duration.ofMinutes(5), 100, 1);
+
+        // Then
+        assertThat(result, is(new PriceRefreshResultModel(1, 1, 1)));
+        verify(cryptoProvider, never()).fetchPrices(staleIds);
+    }
+}
@@ -0,0 +1,60 @@
+package edu.itba.cryptotracker.application.usecase.goal;
+
+import edu.itba.cryptotracker.domain.entity.goal.Goal;
+import edu.itba.cryptotracker.domain.gateway.GoalRepositoryGateway;
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.GoalProgressModel;
+import edu.itba.cryptotracker.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListGoalsUseCaseImplTest {
+
+    @Mock
+    private GoalRepositoryGateway goalRepo;
+
+    @Mock
+    private UserCryptoRepositoryGateway userCryptoRepo;
+
+    @InjectMocks
+    private ListGoalsUseCaseImpl listGoalsUseCase;
+
+    @Test
+    @DisplayName("Should compute progress for all goals from one bulk quantity lookup")
+    void shouldComputeProgressForAllGoalsFromOneBulkLookup() {
+        // Given
+        final Goal bitcoinGoal = TestDataFactory.createBitcoinGoal();     // 2.0 BTC
+        final Goal ethereumGoal = TestDataFactory.createEthereumGoal();   // 50.0 ETH
+        when(goalRepo.findAll()).thenReturn(List.of(bitcoinGoal, ethereumGoal));
+        when(userCryptoRepo.sumQuantityByCryptoIds(List.of("bitcoin", "ethereum")))
+            .thenReturn(Map.of("bitcoin", new BigDecimal("0.5")));
+
+        // When
+        final List<GoalProgressModel> result = listGoalsUseCase.executeWithProgress();
+
+        // Then
+        assertThat(result, hasSize(2));
+        assertThat(result.get(0).actualQuantity(), comparesEqualTo(new BigDecimal("0.5")));
+        assertThat(result.get(0).progressPercent(), is(25F));
+        assertThat(result.get(0).remainingQuantity(), comparesEqualTo(new BigDecimal("1.5")));
+        assertThat(result.get(1).actualQuantity(), comparesEqualTo(BigDecimal.ZERO));
+        assertThat(result.get(1).progressPercent(), is(0F));
+
+        verify(userCryptoRepo, times(1)).sumQuantityByCryptoIds(anyCollection());
+        verify(userCryptoRepo, never()).sumQuantityByCrypto(anyString());
+    }
+}
@@ -0,0 +1,82 @@
+package edu.itba.cryptotracker.application.usecase.insights;
+
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.BalancesModel;
+import edu.itba.cryptotracker.domain.model.CryptoHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.PlatformHoldingTotalsModel;
+import edu.itba.cryptotracker.domain.model.PortfolioValuationModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioValuationUseCaseImplTest {
+
+    @Mock
+    private UserCryptoRepositoryGateway userCryptoRepository;
+
+    @InjectMocks
+    private PortfolioValuationUseCaseImpl portfolioValuationUseCase;
+
+    @Test
+    @DisplayName("Should value holdings with totals and per-crypto and per-platform percentages")
+    void shouldValueHoldingsWithTotalsAndPercentages() {
+        // Given - 0.5 BTC on Binance, 10 ETH on Coinbase and 5 ETH on Binance
+        when(userCryptoRepository.sumHoldingsByCrypto()).thenReturn(List.of(
+            new CryptoHoldingTotalsModel("bitcoin", "BTC", "Bitcoin", new BigDecimal("0.50"),
+                balances("22500.0000", "21000.0000", "0.4950")),
+            new CryptoHoldingTotalsModel("ethereum", "ETH", "Ethereum", new BigDecimal("15.00"),
+                balances("48000.0000", "45000.0000", "1.06500"))
+        ));
+        when(userCryptoRepository.sumHoldingsByPlatform()).thenReturn(List.of(
+            new PlatformHoldingTotalsModel("coinbase-id", balances("32000.0000", "30000.0000", "0.71000")),
+            new PlatformHoldingTotalsModel("binance-id", balances("38500.0000", "36000.0000", "0.85000"))
+        ));
+
+        // When
+        final PortfolioValuationModel result = portfolioValuationUseCase.valuePortfolio();
+
+        // Then
+        assertThat(result.totals().usd(), is(new BigDecimal("70500.00")));
+        assertThat(result.totals().eur(), is(new BigDecimal("66000.00")));
+        assertThat(result.totals().btc(), comparesEqualTo(new BigDecimal("1.56")));
+
+        assertThat(result.cryptos(), hasSize(2));
+        assertThat(result.cryptos().get(0).cryptoId(), is("ethereum"));
+        assertThat(result.cryptos().get(0).percentage(), is(new BigDecimal("68.09")));
+        assertThat(result.cryptos().get(1).percentage(), is(new BigDecimal("31.91")));
+
+        assertThat(result.platforms(), hasSize(2));
+        assertThat(result.platforms().get(0).platformId(), is("binance-id"));
+        assertThat(result.platforms().get(0).percentage(), is(new BigDecimal("54.61")));
+        assertThat(result.platforms().get(1).percentage(), is(new BigDecimal("45.39")));
+    }
+
+    @Test
+    @DisplayName("Should return an empty valuation when there are no holdings")
+    void shouldReturnEmptyValuationWhenThereAreNoHoldings() {
+        // Given
+        when(userCryptoRepository.sumHoldingsByCrypto()).thenReturn(List.of());
+
+        // When
+        final PortfolioValuationModel result = portfolioValuationUseCase.valuePortfolio();
+
+        // Then
+        assertThat(result, is(PortfolioValuationModel.empty()));
+        verify(userCryptoRepository, never()).sumHoldingsByPlatform();
+    }
+
+    private BalancesModel balances(final String usd, final String eur, final String btc) {
+        return new BalancesModel(new BigDecimal(usd), new BigDecimal(eur), new BigDecimal(btc));
+    }
+}
@@ -1,7 +1,6 @@
 package edu.itba.cryptotracker.application.usecase.platform;
 
 import edu.itba.cryptotracker.domain.entity.platform.Platform;
-import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
 import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
 import edu.itba.cryptotracker.util.TestDataFactory;
 import org.junit.jupiter.api.Test;
@@ -23,15 +22,12 @@ class GetAllPlatformsUseCaseImplTest {
     @Mock
     private PlatformRepositoryGateway platformRepository;
 
-    @Mock
-    private PlatformProviderGateway platformProviderGateway;
-
     @InjectMocks
     private GetAllPlatformsUseCaseImpl getAllPlatformsUseCase;
 
     @Test
-    @DisplayName("Should return all platforms from provider gateway")
-    void shouldReturnAllPlatformsFromProviderGateway() {
+    @DisplayName("Should return all stored platforms")
+    void shouldReturnAllStoredPlatforms() {
         // Given
         List<Platform> expectedPlatforms = List.of(
                 TestDataFactory.createBinancePlatform(),
@@ -39,7 +35,7 @@ class GetAllPlatformsUseCaseImplTest {
                 TestDataFactory.createCustomPlatform("kraken-id", "Kraken")
         );
 
-        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(expectedPlatforms);
+        when(platformRepository.findAll()).thenReturn(expectedPlatforms);
 
         // When
         List<Platform> result = getAllPlatformsUseCase.getAllPlatforms();
@@ -47,23 +43,22 @@ class GetAllPlatformsUseCaseImplTest {
         // Then
         assertThat(result, is(expectedPlatforms));
         assertThat(result, hasSize(3));
-        verify(platformProviderGateway, times(1)).fetchAllExchangesList();
-        verify(platformRepository, never()).findAll(); // Current implementation doesn't use repository
+        verify(platformRepository, times(1)).findAll();
     }
 
     @Test
-    @DisplayName("Should handle empty list from provider gateway")
-    void shouldHandleEmptyListFromProviderGateway() {
+    @DisplayName("Should handle empty platform catalog")
+    void shouldHandleEmptyPlatformCatalog() {
         // Given
         List<Platform> emptyList = List.of();
-        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(emptyList);
+        when(platformRepository.findAll()).thenReturn(emptyList);
 
         // When
         List<Platform> result = getAllPlatformsUseCase.getAllPlatforms();
 
         // Then
         assertThat(result, is(empty()));
-        verify(platformProviderGateway, times(1)).fetchAllExchangesList();
+        verify(platformRepository, times(1)).findAll();
     }
 
     @Test
@@ -72,7 +67,7 @@ class GetAllPlatformsUseCaseImplTest {
         // Given
         Platform singlePlatform = TestDataFactory.createBinancePlatform();
         List<Platform> singlePlatformList = List.of(singlePlatform);
-        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(singlePlatformList);
+        when(platformRepository.findAll()).thenReturn(singlePlatformList);
 
         // When
         List<Platform> result = getAllPlatformsUseCase.getAllPlatforms();
@@ -80,6 +75,6 @@ class GetAllPlatformsUseCaseImplTest {
         // Then
         assertThat(result, hasSize(1));
         assertThat(result.get(0), is(singlePlatform));
-        verify(platformProviderGateway, times(1)).fetchAllExchangesList();
+        verify(platformRepository, times(1)).findAll();
     }
 }
\ No newline at end of file
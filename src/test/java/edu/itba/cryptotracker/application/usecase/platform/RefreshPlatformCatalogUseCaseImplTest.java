@@ -0,0 +1,91 @@
+package edu.itba.cryptotracker.application.usecase.platform;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshPlatformCatalogUseCaseImplTest {
+
+    @Mock
+    private PlatformRepositoryGateway platformRepository;
+
+    @Mock
+    private PlatformProviderGateway platformProviderGateway;
+
+    @InjectMocks
+    private RefreshPlatformCatalogUseCaseImpl refreshPlatformCatalogUseCase;
+
+    @Test
+    @DisplayName("Should store only new and renamed platforms")
+    @SuppressWarnings("unchecked")
+    void shouldStoreOnlyNewAndRenamedPlatforms() {
+        // Given
+        when(platformRepository.findAll()).thenReturn(List.of(
+            TestDataFactory.createCustomPlatform("binance", "Binance"),
+            TestDataFactory.createCustomPlatform("kraken", "Kraken")
+        ));
+        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(List.of(
+            TestDataFactory.createCustomPlatform("binance", "Binance"),
+            TestDataFactory.createCustomPlatform("kraken", "Kraken Pro"),
+            TestDataFactory.createCustomPlatform("bitso", "Bitso")
+        ));
+
+        // When
+        int stored = refreshPlatformCatalogUseCase.refreshCatalog();
+
+        // Then
+        ArgumentCaptor<Collection<Platform>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(platformRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue().stream().map(Platform::getName).toList(),
+            containsInAnyOrder("Kraken Pro", "Bitso"));
+        assertThat(stored, is(2));
+    }
+
+    @Test
+    @DisplayName("Should keep the current catalog when the exchange list is empty")
+    void shouldKeepCurrentCatalogWhenExchangeListIsEmpty() {
+        // Given
+        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(List.of());
+
+        // When
+        int stored = refreshPlatformCatalogUseCase.refreshCatalog();
+
+        // Then
+        assertThat(stored, is(0));
+        verify(platformRepository, never()).findAll();
+        verify(platformRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should not write when nothing changed")
+    void shouldNotWriteWhenNothingChanged() {
+        // Given
+        List<Platform> platforms = List.of(TestDataFactory.createBinancePlatform());
+        when(platformRepository.findAll()).thenReturn(platforms);
+        when(platformProviderGateway.fetchAllExchangesList()).thenReturn(platforms);
+
+        // When
+        int stored = refreshPlatformCatalogUseCase.refreshCatalog();
+
+        // Then
+        assertThat(stored, is(0));
+        verify(platformRepository, never()).saveAll(any());
+    }
+}
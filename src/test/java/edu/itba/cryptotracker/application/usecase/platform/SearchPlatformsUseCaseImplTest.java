@@ -0,0 +1,57 @@
+package edu.itba.cryptotracker.application.usecase.platform;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.util.TestDataFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchPlatformsUseCaseImplTest {
+
+    @Mock
+    private PlatformRepositoryGateway platformRepository;
+
+    @InjectMocks
+    private SearchPlatformsUseCaseImpl searchPlatformsUseCase;
+
+    @Test
+    @DisplayName("Should return every match when no limit is given")
+    void shouldReturnEveryMatchWhenNoLimitIsGiven() {
+        // Given
+        List<Platform> matches = List.of(
+                TestDataFactory.createBinancePlatform(),
+                TestDataFactory.createCustomPlatform("binance-us", "Binance US")
+        );
+        when(platformRepository.search("bin", Integer.MAX_VALUE)).thenReturn(matches);
+
+        // When
+        List<Platform> result = searchPlatformsUseCase.search("bin");
+
+        // Then
+        assertThat(result, is(matches));
+    }
+
+    @Test
+    @DisplayName("Should cap an explicit limit at 100")
+    void shouldCapExplicitLimit() {
+        // Given
+        when(platformRepository.search("bin", 100)).thenReturn(List.of());
+
+        // When
+        searchPlatformsUseCase.search("bin", 1_000);
+
+        // Then
+        verify(platformRepository, times(1)).search("bin", 100);
+    }
+}
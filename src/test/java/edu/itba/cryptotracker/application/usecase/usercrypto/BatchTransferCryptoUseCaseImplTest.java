@@ -0,0 +1,197 @@
+package edu.itba.cryptotracker.application.usecase.usercrypto;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
+import edu.itba.cryptotracker.domain.exception.InvalidTransferException;
+import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.HoldingDeltaModel;
+import edu.itba.cryptotracker.domain.model.TransferCryptoRequestModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransferCryptoUseCaseImplTest {
+
+    @Mock
+    private UserCryptoRepositoryGateway userCryptoRepository;
+
+    @Mock
+    private PlatformRepositoryGateway platformRepository;
+
+    @InjectMocks
+    private BatchTransferCryptoUseCaseImpl batchTransferUseCase;
+
+    private final UserCrypto bitcoinOnBinance =
+        UserCrypto.create("user-123", new BigDecimal("10.00"), "binance", "bitcoin");
+    private final UserCrypto ethereumOnBinance =
+        UserCrypto.create("user-123", new BigDecimal("5.00"), "binance", "ethereum");
+
+    @Test
+    @DisplayName("Should apply every leg with one batch per write and return per-leg results")
+    void shouldApplyEveryLegInBatches() {
+        // Given - two legs leave the same bitcoin holding, one of them paying the fee on top
+        var legs = List.of(
+            transfer(bitcoinOnBinance, "coinbase", "2.00", "0.10", true),
+            transfer(bitcoinOnBinance, "kraken", "3.00", "0.00", false),
+            transfer(ethereumOnBinance, "coinbase", "1.00", "0.20", false)
+        );
+        var bitcoinOnCoinbase = UserCrypto.create("user-123", new BigDecimal("2.00"), "coinbase", "bitcoin");
+        var bitcoinOnKraken = UserCrypto.create("user-123", new BigDecimal("3.00"), "kraken", "bitcoin");
+        var ethereumOnCoinbase = UserCrypto.create("user-123", new BigDecimal("0.80"), "coinbase", "ethereum");
+
+        when(platformRepository.findAllByIds(anyCollection())).thenReturn(List.of(
+            Platform.reconstitute("coinbase", "Coinbase"), Platform.reconstitute("kraken", "Kraken")));
+        when(userCryptoRepository.findAllByIds(anyCollection())).thenReturn(List.of(bitcoinOnBinance, ethereumOnBinance));
+        when(userCryptoRepository.subtractQuantitiesIfSufficient(any())).thenReturn(Set.of());
+        when(userCryptoRepository.findAllByUserIdsAndCryptoIdsAndPlatformIds(anyCollection(), anyCollection(), anyCollection()))
+            .thenReturn(List.of(bitcoinOnBinance, bitcoinOnCoinbase, bitcoinOnKraken, ethereumOnCoinbase));
+
+        // When
+        var results = batchTransferUseCase.execute(legs);
+
+        // Then
+        verify(userCryptoRepository).subtractQuantitiesIfSufficient(Map.of(
+            bitcoinOnBinance.getId(), new BigDecimal("5.10"),
+            ethereumOnBinance.getId(), new BigDecimal("1.00")
+        ));
+        verify(userCryptoRepository).addQuantitiesOrCreate(List.of(
+            new HoldingDeltaModel("user-123", "bitcoin", "coinbase", new BigDecimal("2.00")),
+            new HoldingDeltaModel("user-123", "bitcoin", "kraken", new BigDecimal("3.00")),
+            new HoldingDeltaModel("user-123", "ethereum", "coinbase", new BigDecimal("0.80"))
+        ));
+        verify(userCryptoRepository).deleteAllIfEmpty(Set.of(bitcoinOnBinance.getId(), ethereumOnBinance.getId()));
+
+        assertThat(results, hasSize(3));
+        assertThat(results.get(0).destinationId(), is(bitcoinOnCoinbase.getId()));
+        assertThat(results.get(1).destinationId(), is(bitcoinOnKraken.getId()));
+        assertThat(results.get(2).destinationId(), is(ethereumOnCoinbase.getId()));
+        assertThat(results.get(2).quantityReceived(), comparesEqualTo(new BigDecimal("0.80")));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when the legs together exceed a holding's balance")
+    void shouldWriteNothingWhenLegsExceedBalance() {
+        // Given - each leg fits on its own, both together don't
+        var legs = List.of(
+            transfer(bitcoinOnBinance, "coinbase", "6.00", "0.00", false),
+            transfer(bitcoinOnBinance, "kraken", "6.00", "0.00", false)
+        );
+        when(platformRepository.findAllByIds(anyCollection())).thenReturn(List.of(
+            Platform.reconstitute("coinbase", "Coinbase"), Platform.reconstitute("kraken", "Kraken")));
+        when(userCryptoRepository.findAllByIds(anyCollection())).thenReturn(List.of(bitcoinOnBinance));
+
+        // When / Then
+        var exception = assertThrows(InvalidTransferException.class, () -> batchTransferUseCase.execute(legs));
+
+        assertThat(exception.getMessage(), containsString("required=12.00"));
+        verify(userCryptoRepository, never()).subtractQuantitiesIfSufficient(any());
+        verify(userCryptoRepository, never()).addQuantitiesOrCreate(any());
+    }
+
+    @Test
+    @DisplayName("Should credit no destination when a subtraction can't be confirmed")
+    void shouldCreditNoDestinationWhenSubtractionIsNotConfirmed() {
+        // Given - the stale balance check passes, the conditional update doesn't
+        var legs = List.of(transfer(bitcoinOnBinance, "coinbase", "1.00", "0.00", false));
+        when(platformRepository.findAllByIds(anyCollection()))
+            .thenReturn(List.of(Platform.reconstitute("coinbase", "Coinbase")));
+        when(userCryptoRepository.findAllByIds(anyCollection())).thenReturn(List.of(bitcoinOnBinance));
+        when(userCryptoRepository.subtractQuantitiesIfSufficient(any())).thenReturn(Set.of(bitcoinOnBinance.getId()));
+
+        // When / Then
+        assertThrows(InvalidTransferException.class, () -> batchTransferUseCase.execute(legs));
+        verify(userCryptoRepository, never()).addQuantitiesOrCreate(any());
+        verify(userCryptoRepository, never()).deleteAllIfEmpty(any());
+    }
+
+    @Test
+    @DisplayName("Should round each leg to the holding scale before writing")
+    void shouldRoundEachLegToHoldingScale() {
+        // Given - 1.005 and 1.004 round to 1.01 and 1.00; unrounded the gateway would get 2.009
+        var legs = List.of(
+            transfer(bitcoinOnBinance, "coinbase", "1.005", "0.00", false),
+            transfer(bitcoinOnBinance, "coinbase", "1.004", "0.00", false)
+        );
+        when(platformRepository.findAllByIds(anyCollection()))
+            .thenReturn(List.of(Platform.reconstitute("coinbase", "Coinbase")));
+        when(userCryptoRepository.findAllByIds(anyCollection())).thenReturn(List.of(bitcoinOnBinance));
+        when(userCryptoRepository.subtractQuantitiesIfSufficient(any())).thenReturn(Set.of());
+
+        // When
+        var results = batchTransferUseCase.execute(legs);
+
+        // Then
+        verify(userCryptoRepository).subtractQuantitiesIfSufficient(Map.of(bitcoinOnBinance.getId(), new BigDecimal("2.01")));
+        verify(userCryptoRepository).addQuantitiesOrCreate(List.of(
+            new HoldingDeltaModel("user-123", "bitcoin", "coinbase", new BigDecimal("2.01"))));
+        assertThat(results.get(0).quantityReceived(), is(new BigDecimal("1.01")));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when a destination platform doesn't exist")
+    void shouldRejectBatchWhenDestinationPlatformIsMissing() {
+        // Given
+        var legs = List.of(
+            transfer(bitcoinOnBinance, "coinbase", "1.00", "0.00", false),
+            transfer(ethereumOnBinance, "unknown-exchange", "1.00", "0.00", false)
+        );
+        when(platformRepository.findAllByIds(anyCollection()))
+            .thenReturn(List.of(Platform.reconstitute("coinbase", "Coinbase")));
+
+        // When / Then
+        assertThrows(PlatformNotFoundException.class, () -> batchTransferUseCase.execute(legs));
+        verifyNoInteractions(userCryptoRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve destinations missing from the table through the read-through lookup, normalized")
+    void shouldResolveMissingDestinationsThroughReadThroughLookup() {
+        // Given - kraken isn't stored yet and the legs spell it differently
+        var legs = List.of(
+            transfer(bitcoinOnBinance, " Kraken ", "1.00", "0.00", false),
+            transfer(bitcoinOnBinance, "kraken", "2.00", "0.00", false)
+        );
+        when(platformRepository.findById("kraken")).thenReturn(Optional.of(Platform.reconstitute("kraken", "Kraken")));
+        when(userCryptoRepository.findAllByIds(anyCollection())).thenReturn(List.of(bitcoinOnBinance));
+
+        // When
+        var results = batchTransferUseCase.execute(legs);
+
+        // Then - both legs credit the one stored holding
+        verify(platformRepository).findAllByIds(Set.of("kraken"));
+        verify(userCryptoRepository).addQuantitiesOrCreate(List.of(
+            new HoldingDeltaModel("user-123", "bitcoin", "kraken", new BigDecimal("3.00"))));
+        assertThat(results.get(0).toPlatform(), is("kraken"));
+    }
+
+    private static TransferCryptoRequestModel transfer(UserCrypto source, String toPlatformId,
+                                                       String quantity, String fee, boolean sendFullQuantity) {
+        return new TransferCryptoRequestModel(
+            source.getId(),
+            source.getPlatformId(),
+            toPlatformId,
+            new BigDecimal(quantity),
+            new BigDecimal(fee),
+            sendFullQuantity
+        );
+    }
+}
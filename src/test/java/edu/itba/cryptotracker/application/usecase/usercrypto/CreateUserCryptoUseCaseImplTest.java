@@ -6,10 +6,10 @@ import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
 import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
 import edu.itba.cryptotracker.domain.exception.DuplicateUserCryptoException;
 import edu.itba.cryptotracker.domain.exception.PlatformNotFoundException;
-import edu.itba.cryptotracker.domain.gateway.CryptoRepositoryGateway;
 import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
 import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
 import edu.itba.cryptotracker.domain.model.CreateCryptoRequestModel;
+import edu.itba.cryptotracker.domain.usecase.crypto.CryptoQueryUseCase;
 import edu.itba.cryptotracker.util.TestDataFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -34,7 +34,7 @@ class CreateUserCryptoUseCaseImplTest {
     private UserCryptoRepositoryGateway userCryptoRepository;
 
     @Mock
-    private CryptoRepositoryGateway cryptoRepository;
+    private CryptoQueryUseCase cryptoQueryUseCase;
 
     @Mock
     private PlatformRepositoryGateway platformRepository;
@@ -56,7 +56,7 @@ class CreateUserCryptoUseCaseImplTest {
         Crypto bitcoin = TestDataFactory.createBitcoin();
         Platform binance = TestDataFactory.createBinancePlatform();
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.of(binance));
         when(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId()))
@@ -72,7 +72,7 @@ class CreateUserCryptoUseCaseImplTest {
         assertThat(result.getPlatformId(), is(request.platformId()));
         assertThat(result.getQuantity(), is(new BigDecimal("10.50"))); // Scaled to 2 decimal places
 
-        verify(cryptoRepository, times(1)).findById(request.cryptoId());
+        verify(cryptoQueryUseCase, times(1)).findById(request.cryptoId());
         verify(platformRepository, times(1)).findById(request.platformId());
         verify(userCryptoRepository, times(1)).findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId());
@@ -94,7 +94,7 @@ class CreateUserCryptoUseCaseImplTest {
         assertThrows(IllegalArgumentException.class, 
                 () -> createUserCryptoUseCase.execute(request));
 
-        verify(cryptoRepository, never()).findById(any());
+        verify(cryptoQueryUseCase, never()).findById(any());
         verify(platformRepository, never()).findById(any());
         verify(userCryptoRepository, never()).save(any());
     }
@@ -114,7 +114,7 @@ class CreateUserCryptoUseCaseImplTest {
         assertThrows(IllegalArgumentException.class, 
                 () -> createUserCryptoUseCase.execute(request));
 
-        verify(cryptoRepository, never()).findById(any());
+        verify(cryptoQueryUseCase, never()).findById(any());
         verify(platformRepository, never()).findById(any());
         verify(userCryptoRepository, never()).save(any());
     }
@@ -130,13 +130,13 @@ class CreateUserCryptoUseCaseImplTest {
                 new BigDecimal("10.0")
         );
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.empty());
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenThrow(new CryptoNotFoundException(request.cryptoId()));
 
         // When/Then
         assertThrows(CryptoNotFoundException.class, 
                 () -> createUserCryptoUseCase.execute(request));
 
-        verify(cryptoRepository, times(1)).findById(request.cryptoId());
+        verify(cryptoQueryUseCase, times(1)).findById(request.cryptoId());
         verify(platformRepository, never()).findById(any());
         verify(userCryptoRepository, never()).save(any());
     }
@@ -154,14 +154,14 @@ class CreateUserCryptoUseCaseImplTest {
 
         Crypto bitcoin = TestDataFactory.createBitcoin();
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.empty());
 
         // When/Then
         assertThrows(PlatformNotFoundException.class, 
                 () -> createUserCryptoUseCase.execute(request));
 
-        verify(cryptoRepository, times(1)).findById(request.cryptoId());
+        verify(cryptoQueryUseCase, times(1)).findById(request.cryptoId());
         verify(platformRepository, times(1)).findById(request.platformId());
         verify(userCryptoRepository, never()).save(any());
     }
@@ -181,7 +181,7 @@ class CreateUserCryptoUseCaseImplTest {
         Platform binance = TestDataFactory.createBinancePlatform();
         UserCrypto existingUserCrypto = TestDataFactory.createUserBitcoin(binance);
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.of(binance));
         when(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId()))
@@ -191,7 +191,7 @@ class CreateUserCryptoUseCaseImplTest {
         assertThrows(DuplicateUserCryptoException.class, 
                 () -> createUserCryptoUseCase.execute(request));
 
-        verify(cryptoRepository, times(1)).findById(request.cryptoId());
+        verify(cryptoQueryUseCase, times(1)).findById(request.cryptoId());
         verify(platformRepository, times(1)).findById(request.platformId());
         verify(userCryptoRepository, times(1)).findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId());
@@ -212,7 +212,7 @@ class CreateUserCryptoUseCaseImplTest {
         Crypto bitcoin = TestDataFactory.createBitcoin();
         Platform binance = TestDataFactory.createBinancePlatform();
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.of(binance));
         when(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId()))
@@ -242,7 +242,7 @@ class CreateUserCryptoUseCaseImplTest {
         Crypto bitcoin = TestDataFactory.createBitcoin();
         Platform binance = TestDataFactory.createBinancePlatform();
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.of(binance));
         when(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId(
                 request.userId(), request.cryptoId(), request.platformId()))
@@ -272,7 +272,7 @@ class CreateUserCryptoUseCaseImplTest {
         Crypto bitcoin = TestDataFactory.createBitcoin();
         Platform binance = TestDataFactory.createBinancePlatform();
 
-        when(cryptoRepository.findById(request.cryptoId())).thenReturn(Optional.of(bitcoin));
+        when(cryptoQueryUseCase.findById(request.cryptoId())).thenReturn(bitcoin);
         when(platformRepository.findById(request.platformId())).thenReturn(Optional.of(binance));
         when(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId(
                 any(), any(), any())).thenReturn(Optional.empty());
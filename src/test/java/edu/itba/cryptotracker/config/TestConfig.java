@@ -77,4 +77,10 @@ public class TestConfig {
     public TransferCryptoBetweenPlatformsUseCase mockTransferCryptoBetweenPlatformsUseCase() {
         return Mockito.mock(TransferCryptoBetweenPlatformsUseCase.class);
     }
+
+    @Bean
+    @Primary
+    public BatchTransferCryptoUseCase mockBatchTransferCryptoUseCase() {
+        return Mockito.mock(BatchTransferCryptoUseCase.class);
+    }
 }
\ No newline at end of file
@@ -43,7 +43,7 @@ class UserCryptoTest {
         String cryptoId = "ethereum";
 
         // When
-        UserCrypto userCrypto = UserCrypto.reconstitute(id, userId, quantity, platformId, cryptoId);
+        UserCrypto userCrypto = UserCrypto.reconstitute(id, userId, quantity, platformId, cryptoId, 0L);
 
         // Then
         assertThat(userCrypto.getId(), is(id));
@@ -136,9 +136,9 @@ class UserCryptoTest {
     void shouldImplementEqualsAndHashCodeBasedOnId() {
         // Given
         UUID sharedId = UUID.randomUUID();
-        UserCrypto userCrypto1 = UserCrypto.reconstitute(sharedId, "user-1", new BigDecimal("100"), "platform-1", "crypto-1");
-        UserCrypto userCrypto2 = UserCrypto.reconstitute(sharedId, "user-2", new BigDecimal("200"), "platform-2", "crypto-2");
-        UserCrypto userCrypto3 = UserCrypto.reconstitute(UUID.randomUUID(), "user-1", new BigDecimal("100"), "platform-1", "crypto-1");
+        UserCrypto userCrypto1 = UserCrypto.reconstitute(sharedId, "user-1", new BigDecimal("100"), "platform-1", "crypto-1", 0L);
+        UserCrypto userCrypto2 = UserCrypto.reconstitute(sharedId, "user-2", new BigDecimal("200"), "platform-2", "crypto-2", 0L);
+        UserCrypto userCrypto3 = UserCrypto.reconstitute(UUID.randomUUID(), "user-1", new BigDecimal("100"), "platform-1", "crypto-1", 0L);
 
         // Then
         assertThat(userCrypto1, is(equalTo(userCrypto2))); // Same ID, different other fields
@@ -0,0 +1,86 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.model.CryptoListingModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CryptoCatalogIndexTest {
+
+    private CryptoCatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = CryptoCatalogIndex.build(List.of(
+            new CryptoListingModel("ethereum-wormhole", "eth", "Ethereum (Wormhole)", null),
+            new CryptoListingModel("bitcoin-cash", "bch", "Bitcoin Cash", 20),
+            new CryptoListingModel("bitcoin", "btc", "Bitcoin", 1),
+            new CryptoListingModel("wrapped-bitcoin", "wbtc", "Wrapped Bitcoin", 15),
+            new CryptoListingModel("ethereum", "eth", "Ethereum", 2),
+            new CryptoListingModel("solana", "sol", "Solana", 5)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should break ties between equal symbols by market cap")
+    void shouldBreakTiesBetweenEqualSymbolsByMarketCap() {
+        // When
+        List<CryptoListingModel> result = index.search("ETH", 10);
+
+        // Then
+        assertThat(ids(result), contains("ethereum", "ethereum-wormhole"));
+    }
+
+    @Test
+    @DisplayName("Should rank exact name matches before name word prefixes")
+    void shouldRankExactNameMatchesBeforeNameWordPrefixes() {
+        // When
+        List<CryptoListingModel> result = index.search("bitcoin", 10);
+
+        // Then
+        assertThat(ids(result), contains("bitcoin", "wrapped-bitcoin", "bitcoin-cash"));
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos in names")
+    void shouldTolerateTyposInNames() {
+        assertThat(ids(index.search("etherium", 10)), hasItem("ethereum"));
+        assertThat(ids(index.search("solanna", 10)), contains("solana"));
+    }
+
+    @Test
+    @DisplayName("Should not apply typo tolerance to short queries")
+    void shouldNotApplyTypoToleranceToShortQueries() {
+        assertThat(index.search("sil", 10), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Should return the top ranked coins for a blank query")
+    void shouldReturnTopRankedCoinsForBlankQuery() {
+        // When
+        List<CryptoListingModel> result = index.search("", 3);
+
+        // Then
+        assertThat(ids(result), contains("bitcoin", "ethereum", "solana"));
+    }
+
+    @Test
+    @DisplayName("Should find word prefixes within a small edit distance")
+    void shouldFindWordPrefixesWithinSmallEditDistance() {
+        int[] previousRow = new int[6];
+        int[] currentRow = new int[6];
+
+        assertThat(CryptoCatalogIndex.startsWithinEdits("solan", "solana", 1, previousRow, currentRow), is(true));
+        assertThat(CryptoCatalogIndex.startsWithinEdits("slana", "solana", 1, previousRow, currentRow), is(true));
+        assertThat(CryptoCatalogIndex.startsWithinEdits("cardo", "solana", 1, previousRow, currentRow), is(false));
+    }
+
+    private List<String> ids(List<CryptoListingModel> listings) {
+        return listings.stream().map(CryptoListingModel::id).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class PlatformSearchIndexTest {
+
+    private PlatformSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = PlatformSearchIndex.build(List.of(
+            TestDataFactory.createCustomPlatform("binance_us", "Binance US"),
+            TestDataFactory.createCustomPlatform("binance", "Binance"),
+            TestDataFactory.createCustomPlatform("gdax", "Coinbase Exchange"),
+            TestDataFactory.createCustomPlatform("pancakeswap", "PancakeSwap (v2)"),
+            TestDataFactory.createCustomPlatform("kraken", "Kraken")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should rank exact matches before prefix matches")
+    void shouldRankExactMatchesBeforePrefixMatches() {
+        // When
+        List<Platform> result = index.search("BINANCE", 10);
+
+        // Then
+        assertThat(ids(result), contains("binance", "binance_us"));
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes and substrings after name prefixes")
+    void shouldMatchWordPrefixesAndSubstringsAfterNamePrefixes() {
+        // When
+        List<Platform> result = index.search("ex", 10);
+
+        // Then
+        assertThat(ids(result), contains("gdax"));
+        assertThat(ids(index.search("ake", 10)), contains("kraken", "pancakeswap"));
+    }
+
+    @Test
+    @DisplayName("Should cap results at the limit")
+    void shouldCapResultsAtLimit() {
+        // When
+        List<Platform> result = index.search("n", 2);
+
+        // Then
+        assertThat(result, hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Should return the first platforms for a blank query")
+    void shouldReturnFirstPlatformsForBlankQuery() {
+        // When
+        List<Platform> result = index.search("  ", 3);
+
+        // Then
+        assertThat(result, hasSize(3));
+        assertThat(index.search(null, 10), hasSize(5));
+    }
+
+    @Test
+    @DisplayName("Should return nothing when no platform matches")
+    void shouldReturnNothingWhenNoPlatformMatches() {
+        assertThat(index.search("zzz", 10), is(empty()));
+    }
+
+    private List<String> ids(List<Platform> platforms) {
+        return platforms.stream().map(Platform::getId).toList();
+    }
+}
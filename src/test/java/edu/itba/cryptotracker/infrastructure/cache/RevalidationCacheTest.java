@@ -0,0 +1,117 @@
+package edu.itba.cryptotracker.infrastructure.cache;
+
+import edu.itba.cryptotracker.infrastructure.cache.RevalidationCache.ValidatedResponse;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.cache.Cache;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevalidationCacheTest {
+
+    private static final String ENDPOINT = "https://api.coingecko.com/api/v3/exchanges/list";
+
+    private static final HttpRequest<List> REQUEST = HttpRequest.<List>builder()
+        .endpoint(ENDPOINT)
+        .responseType(List.class)
+        .onError(List.of())
+        .build();
+
+    @Mock
+    private Cache<String, ValidatedResponse> cache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RevalidationCache revalidationCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revalidationCache = new RevalidationCache(cache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should send the stored validators so CoinGecko can answer 304")
+    void shouldSendStoredValidators() {
+        // Given
+        when(cache.get(ENDPOINT)).thenReturn(
+            new ValidatedResponse("W/\"abc\"", "Tue, 01 Sep 2026 10:00:00 GMT", List.of("binance"), 1024));
+
+        // When
+        final var request = revalidationCache.conditional(REQUEST);
+
+        // Then
+        assertThat(request.headers(), hasEntry("If-None-Match", "W/\"abc\""));
+        assertThat(request.headers(), hasEntry("If-Modified-Since", "Tue, 01 Sep 2026 10:00:00 GMT"));
+        assertThat(request.endpoint(), is(ENDPOINT));
+    }
+
+    @Test
+    @DisplayName("Should hand back the stored body on 304 and count the bytes saved")
+    void shouldHandBackStoredBodyOnNotModified() {
+        // Given
+        when(cache.get(ENDPOINT)).thenReturn(new ValidatedResponse("\"abc\"", null, List.of("binance"), 1024));
+        final var request = revalidationCache.conditional(REQUEST);
+
+        // When
+        final var response = revalidationCache.resolve(request, new HttpResponse<List>(null, 304, "Not Modified"));
+
+        // Then
+        assertThat(response.data(), is(List.of("binance")));
+        assertThat(response.isError(), is(false));
+        assertThat(meterRegistry.get("http.client.revalidation.bytes.saved").counter().count(), is(1024.0));
+        assertThat(meterRegistry.get("http.client.revalidation.not.modified.ratio").gauge().value(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Should store fresh responses that carry an ETag")
+    void shouldStoreFreshResponsesWithEtag() {
+        // Given
+        final var response = new HttpResponse<List>(List.of("kraken"), 200, "OK",
+            Map.of("etag", "\"def\"", HttpResponse.BODY_BYTES_HEADER, "2048"));
+
+        // When
+        revalidationCache.resolve(REQUEST, response);
+
+        // Then
+        verify(cache).put(ENDPOINT, new ValidatedResponse("\"def\"", null, List.of("kraken"), 2048));
+    }
+
+    @Test
+    @DisplayName("Should record the decoded body size, not the compressed Content-Length")
+    void shouldRecordDecodedBodySize() {
+        // Given - a gzipped body: Content-Length is what went over the wire
+        final var response = new HttpResponse<List>(List.of("kraken"), 200, "OK",
+            Map.of("etag", "\"def\"", "Content-Length", "300", HttpResponse.BODY_BYTES_HEADER, "2048"));
+
+        // When
+        revalidationCache.resolve(REQUEST, response);
+
+        // Then
+        verify(cache).put(ENDPOINT, new ValidatedResponse("\"def\"", null, List.of("kraken"), 2048));
+    }
+
+    @Test
+    @DisplayName("Should neither store nor replace anything on errors")
+    void shouldNotStoreErrors() {
+        // When
+        final var response = revalidationCache.resolve(REQUEST, HttpResponse.error(List.of(), 503, "Service Unavailable"));
+
+        // Then
+        assertThat(response.statusCode(), is(503));
+        verify(cache, never()).put(any(), any());
+        verify(cache, never()).remove(any());
+    }
+}
@@ -0,0 +1,380 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko;
+
+import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
+import edu.itba.cryptotracker.domain.entity.crypto.LastKnownPrices;
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.exception.ExternalApiException;
+import edu.itba.cryptotracker.domain.exception.PriceUnavailableException;
+import edu.itba.cryptotracker.infrastructure.cache.NegativeLookupCache;
+import edu.itba.cryptotracker.infrastructure.cache.NegativeLookupCache.LookupKind;
+import edu.itba.cryptotracker.infrastructure.cache.RevalidationCache;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.config.CoingeckoApiConfig;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoCryptoInfoDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoMarketDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoPricesDTO;
+import edu.itba.cryptotracker.infrastructure.external.coingecko.dto.CoingeckoSearchResultDTO;
+import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoingeckoGatewayImplTest {
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private RevalidationCache revalidationCache;
+
+    private CoingeckoGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() {
+        final var config = CoingeckoApiConfig.builder()
+            .baseUrl("http://localhost")
+            .timeoutSeconds(5)
+            .build();
+        gateway = new CoingeckoGatewayImpl(httpClient, config, negativeLookupCache, revalidationCache);
+
+        // Nothing stored: requests go out unconditional and responses come back untouched
+        lenient().when(revalidationCache.conditional(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(revalidationCache.resolve(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("Should fetch prices for many cryptos in a single request")
+    void shouldFetchPricesForManyCryptosInSingleRequest() {
+        // Given
+        final Map<String, CoingeckoPricesDTO> body = Map.of(
+            "bitcoin", new CoingeckoPricesDTO(new BigDecimal("50000"), new BigDecimal("45000"), BigDecimal.ONE),
+            "ethereum", new CoingeckoPricesDTO(new BigDecimal("3000"), new BigDecimal("2800"), new BigDecimal("0.06"))
+        );
+        when(httpClient.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(new HttpResponse<>(body, 200, "OK")));
+
+        // When
+        final Map<String, LastKnownPrices> prices = gateway.fetchPrices(List.of("bitcoin", "ETHEREUM"));
+
+        // Then
+        final ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(1)).getAsync(captor.capture());
+        assertThat(captor.getValue().endpoint(), containsString("ids=bitcoin,ethereum"));
+
+        assertThat(prices.keySet(), containsInAnyOrder("bitcoin", "ethereum"));
+        assertThat(prices.get("bitcoin").usdPrice(), comparesEqualTo(new BigDecimal("50000")));
+        assertThat(prices.get("ethereum").btcPrice(), comparesEqualTo(new BigDecimal("0.06")));
+    }
+
+    @Test
+    @DisplayName("Should leave out cryptos missing from the price response")
+    void shouldLeaveOutCryptosMissingFromPriceResponse() {
+        // Given
+        final Map<String, CoingeckoPricesDTO> body = Map.of("bitcoin", price(50000));
+        when(httpClient.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(new HttpResponse<>(body, 200, "OK")));
+
+        // When
+        final Map<String, LastKnownPrices> prices = gateway.fetchPrices(List.of("bitcoin", "unknown-coin"));
+
+        // Then
+        assertThat(prices.keySet(), contains("bitcoin"));
+    }
+
+    @Test
+    @DisplayName("Should merge prices from chunks requested concurrently")
+    void shouldMergePricesFromChunksRequestedConcurrently() {
+        // Given
+        final List<String> ids = IntStream.range(0, 300)
+            .mapToObj(i -> "coin-" + i)
+            .toList();
+        final var firstChunk = new CompletableFuture<HttpResponse<Map<String, CoingeckoPricesDTO>>>();
+        final var secondChunk = new CompletableFuture<HttpResponse<Map<String, CoingeckoPricesDTO>>>();
+        when(httpClient.getAsync(any(HttpRequest.class))).thenReturn(firstChunk, secondChunk);
+
+        // When
+        final var result = CompletableFuture.supplyAsync(() -> gateway.fetchPrices(ids));
+        // Both requests are in flight before either one answers
+        verify(httpClient, timeout(1000).times(2)).getAsync(any(HttpRequest.class));
+        secondChunk.complete(new HttpResponse<>(Map.of("coin-299", price(2)), 200, "OK"));
+        firstChunk.complete(new HttpResponse<>(Map.of("coin-0", price(1)), 200, "OK"));
+
+        // Then
+        assertThat(result.join().keySet(), containsInAnyOrder("coin-0", "coin-299"));
+    }
+
+    @Test
+    @DisplayName("Should leave out cryptos priced in only some currencies")
+    void shouldLeaveOutCryptosPricedInOnlySomeCurrencies() {
+        // Given
+        final Map<String, CoingeckoPricesDTO> body = Map.of(
+            "bitcoin", price(50000),
+            "ethereum", new CoingeckoPricesDTO(new BigDecimal("3000"), null, null)
+        );
+        when(httpClient.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(new HttpResponse<>(body, 200, "OK")));
+
+        // When
+        final Map<String, LastKnownPrices> prices = gateway.fetchPrices(List.of("bitcoin", "ethereum"));
+
+        // Then
+        assertThat(prices.keySet(), contains("bitcoin"));
+    }
+
+    @Test
+    @DisplayName("Should split large id sets into URL-safe chunks")
+    void shouldSplitLargeIdSetsIntoUrlSafeChunks() {
+        // Given
+        final List<String> ids = IntStream.range(0, 600)
+            .mapToObj(i -> String.format("coin-%04d", i))
+            .toList();
+
+        // When
+        final List<List<String>> chunks = CoingeckoGatewayImpl.chunkIds(ids);
+
+        // Then
+        assertThat(chunks.stream().mapToInt(List::size).sum(), is(600));
+        chunks.forEach(chunk -> {
+            assertThat(chunk.size(), lessThanOrEqualTo(CoingeckoGatewayImpl.MAX_PRICE_IDS_PER_REQUEST));
+            assertThat(String.join(",", chunk).length(), lessThanOrEqualTo(CoingeckoGatewayImpl.MAX_PRICE_IDS_LENGTH));
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep only the ids that fit in the given number of price requests")
+    void shouldKeepOnlyIdsThatFitInGivenPriceRequests() {
+        // Given - 600 ten-character ids take several URL-length chunks
+        final List<String> ids = IntStream.range(0, 600)
+            .mapToObj(i -> String.format("coin-%05d", i))
+            .toList();
+        final List<List<String>> chunks = CoingeckoGatewayImpl.chunkIds(ids);
+
+        // When
+        final List<String> limited = gateway.limitToPriceRequests(ids, 2);
+
+        // Then
+        assertThat(limited, is(ids.subList(0, chunks.get(0).size() + chunks.get(1).size())));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    @DisplayName("Should not call the API when there are no ids to price")
+    void shouldNotCallApiWhenThereAreNoIdsToPrice() {
+        // When
+        final Map<String, LastKnownPrices> prices = gateway.fetchPrices(List.of());
+
+        // Then
+        assertThat(prices, is(anEmptyMap()));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    @DisplayName("Should build search results from one markets call regardless of limit")
+    void shouldBuildSearchResultsFromOneMarketsCall() {
+        // Given
+        final var searchResult = new CoingeckoSearchResultDTO();
+        searchResult.setCoins(IntStream.range(0, 50)
+            .mapToObj(i -> searchCoin("coin-" + i))
+            .toList());
+
+        final CoingeckoMarketDTO[] markets = IntStream.range(0, 50)
+            .mapToObj(i -> marketItem("coin-" + i))
+            .toArray(CoingeckoMarketDTO[]::new);
+        final Map<String, CoingeckoPricesDTO> prices = IntStream.range(0, 50).boxed()
+            .collect(Collectors.toMap(i -> "coin-" + i, i -> price(10)));
+
+        when(httpClient.get(any(HttpRequest.class))).thenReturn(new HttpResponse<>(searchResult, 200, "OK"));
+        when(httpClient.getAsync(any(HttpRequest.class))).thenAnswer(invocation -> {
+            final HttpRequest<?> request = invocation.getArgument(0);
+            if (request.responseType() == CoingeckoMarketDTO[].class) {
+                return CompletableFuture.completedFuture(new HttpResponse<>(markets, 200, "OK"));
+            }
+            return CompletableFuture.completedFuture(new HttpResponse<>(prices, 200, "OK"));
+        });
+
+        // When
+        final List<Crypto> result = gateway.searchCryptos("coin", 50);
+
+        // Then
+        assertThat(result, hasSize(50));
+        assertThat(result.get(0).getId(), is("coin-0"));
+        assertThat(result.get(0).getLastKnownPrices().usdPrice(), comparesEqualTo(BigDecimal.TEN));
+        // search, then markets and one batched price call side by side
+        verify(httpClient, times(1)).get(any(HttpRequest.class));
+        verify(httpClient, times(2)).getAsync(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should remember cryptos Coingecko answers 404 for and skip them afterwards")
+    void shouldRememberCryptosCoingeckoAnswers404For() {
+        // Given
+        when(httpClient.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HttpResponse.error(null, 404, "Not Found")));
+        when(negativeLookupCache.isKnownMissing(LookupKind.CRYPTO, "bitcon")).thenReturn(false, true);
+
+        // When
+        final Optional<Crypto> first = gateway.fetchCrypto("Bitcon");
+        final Optional<Crypto> second = gateway.fetchCrypto("bitcon");
+
+        // Then
+        assertThat(first.isEmpty(), is(true));
+        assertThat(second.isEmpty(), is(true));
+        verify(negativeLookupCache, times(1)).recordMissing(LookupKind.CRYPTO, "bitcon");
+        // info + prices on the first call only
+        verify(httpClient, times(2)).getAsync(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should fail with price unavailable instead of returning zero prices")
+    void shouldFailWithPriceUnavailableInsteadOfZeroPrices() {
+        // Given
+        final var info = new CoingeckoCryptoInfoDTO("bitcoin", "btc", "Bitcoin", null);
+        when(httpClient.getAsync(any(HttpRequest.class))).thenAnswer(invocation -> {
+            final HttpRequest<?> request = invocation.getArgument(0);
+            if (request.responseType() == CoingeckoCryptoInfoDTO.class) {
+                return CompletableFuture.completedFuture(new HttpResponse<>(info, 200, "OK"));
+            }
+            return CompletableFuture.completedFuture(HttpResponse.error(Map.of(), 503, "Service Unavailable"));
+        });
+
+        // When / Then
+        assertThrows(PriceUnavailableException.class, () -> gateway.fetchCrypto("bitcoin"));
+    }
+
+    @Test
+    @DisplayName("Should fail instead of reporting not found when Coingecko is down")
+    void shouldFailInsteadOfReportingNotFoundWhenCoingeckoIsDown() {
+        // Given
+        when(httpClient.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HttpResponse.error(null, 503, "Service Unavailable")));
+
+        // When / Then
+        assertThrows(ExternalApiException.class, () -> gateway.fetchCrypto("bitcoin"));
+        verify(negativeLookupCache, never()).recordMissing(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should build a new crypto from a trimmed coin document plus a price-only call")
+    void shouldBuildCryptoFromTrimmedCoinDocument() {
+        // Given
+        final var image = new CoingeckoCryptoInfoDTO.ImageDTO();
+        image.setLarge("https://example.com/bitcoin.png");
+        final var info = new CoingeckoCryptoInfoDTO("bitcoin", "btc", "Bitcoin", image);
+        final Map<String, CoingeckoPricesDTO> prices = Map.of("bitcoin", price(50000));
+        when(httpClient.getAsync(any(HttpRequest.class))).thenAnswer(invocation -> {
+            final HttpRequest<?> request = invocation.getArgument(0);
+            if (request.responseType() == CoingeckoCryptoInfoDTO.class) {
+                return CompletableFuture.completedFuture(new HttpResponse<>(info, 200, "OK"));
+            }
+            return CompletableFuture.completedFuture(new HttpResponse<>(prices, 200, "OK"));
+        });
+
+        // When
+        final Optional<Crypto> crypto = gateway.fetchCrypto("Bitcoin");
+
+        // Then
+        assertThat(crypto.isPresent(), is(true));
+        assertThat(crypto.get().getName(), is("Bitcoin"));
+        assertThat(crypto.get().getImageUrl(), is("https://example.com/bitcoin.png"));
+        assertThat(crypto.get().getLastKnownPrices().usdPrice(), comparesEqualTo(new BigDecimal("50000")));
+
+        final ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).getAsync(captor.capture());
+        final HttpRequest<?> infoRequest = captor.getAllValues().stream()
+            .filter(request -> request.responseType() == CoingeckoCryptoInfoDTO.class)
+            .findFirst()
+            .orElseThrow();
+        assertThat(infoRequest.endpoint(), allOf(
+            startsWith("http://localhost/coins/bitcoin?"),
+            containsString("localization=false"),
+            containsString("tickers=false"),
+            containsString("community_data=false"),
+            containsString("developer_data=false")));
+    }
+
+    @Test
+    @DisplayName("Should remember exchanges Coingecko answers 404 for")
+    void shouldRememberExchangesCoingeckoAnswers404For() {
+        // Given
+        when(httpClient.get(any(HttpRequest.class))).thenReturn(HttpResponse.error(null, 404, "Not Found"));
+
+        // When
+        final Optional<Platform> result = gateway.fetchExchange("binanse");
+
+        // Then
+        assertThat(result.isEmpty(), is(true));
+        verify(negativeLookupCache, times(1)).recordMissing(LookupKind.PLATFORM, "binanse");
+    }
+
+    @Test
+    @DisplayName("Should not remember exchanges when Coingecko fails for other reasons")
+    void shouldNotRememberExchangesOnOtherErrors() {
+        // Given
+        when(httpClient.get(any(HttpRequest.class))).thenReturn(HttpResponse.error(null, 429, "Too Many Requests"));
+
+        // When
+        gateway.fetchExchange("binance");
+
+        // Then
+        verify(negativeLookupCache, never()).recordMissing(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip Coingecko for exchanges recently not found")
+    void shouldSkipCoingeckoForExchangesRecentlyNotFound() {
+        // Given
+        when(negativeLookupCache.isKnownMissing(LookupKind.PLATFORM, "binanse")).thenReturn(true);
+
+        // When
+        final Optional<Platform> result = gateway.fetchExchange("binanse");
+
+        // Then
+        assertThat(result.isEmpty(), is(true));
+        verifyNoInteractions(httpClient);
+    }
+
+    private CoingeckoPricesDTO price(final int usd) {
+        return new CoingeckoPricesDTO(BigDecimal.valueOf(usd), BigDecimal.valueOf(usd), BigDecimal.ONE);
+    }
+
+    private CoingeckoSearchResultDTO.CoinSearchResult searchCoin(final String id) {
+        final var coin = new CoingeckoSearchResultDTO.CoinSearchResult();
+        coin.setId(id);
+        coin.setName(id);
+        coin.setSymbol(id);
+        return coin;
+    }
+
+    private CoingeckoMarketDTO marketItem(final String id) {
+        final var market = new CoingeckoMarketDTO();
+        market.setId(id);
+        market.setSymbol(id);
+        market.setName(id);
+        market.setImage("https://example.com/" + id + ".png");
+        market.setCurrentPrice(BigDecimal.TEN);
+        return market;
+    }
+}
@@ -0,0 +1,95 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import edu.itba.cryptotracker.infrastructure.httpclient.ResponseDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoingeckoJsonDecodersTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("Should keep every digit of a price instead of rounding through double")
+    void shouldKeepEveryDigitOfPrice() throws IOException {
+        // Given
+        final var body = """
+            {"shiba-inu": {"usd": 0.000012345678901234567, "eur": 0.0000113, "btc": 1.23456789012345678E-10}}
+            """;
+
+        // When
+        final var prices = decode(CoingeckoJsonDecoders.prices(), body);
+
+        // Then
+        final var shib = prices.get("shiba-inu");
+        assertThat(shib.usd().toPlainString(), is("0.000012345678901234567"));
+        assertThat(shib.btc(), is(new BigDecimal("1.23456789012345678E-10")));
+        assertThat(shib.isComplete(), is(true));
+    }
+
+    @Test
+    @DisplayName("Should leave missing currencies null and skip the ones not used")
+    void shouldLeaveMissingCurrenciesNull() throws IOException {
+        // Given
+        final var body = """
+            {"bitcoin": {"usd": 50000, "ars": 60000000, "usd_24h_change": {"nested": [1, 2]}},
+             "ethereum": null}
+            """;
+
+        // When
+        final var prices = decode(CoingeckoJsonDecoders.prices(), body);
+
+        // Then
+        assertThat(prices.keySet(), contains("bitcoin"));
+        assertThat(prices.get("bitcoin").usd(), comparesEqualTo(new BigDecimal("50000")));
+        assertThat(prices.get("bitcoin").eur(), is(nullValue()));
+        assertThat(prices.get("bitcoin").isComplete(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should read only id and name from the exchanges list")
+    void shouldReadOnlyIdAndNameFromExchangesList() throws IOException {
+        // Given
+        final var body = """
+            [
+              {"id": "binance", "name": "Binance", "country": "Cayman Islands", "urls": {"web": ["a", "b"]}},
+              {"id": "no-name"},
+              {"name": "Kraken", "id": "kraken"}
+            ]
+            """;
+
+        // When
+        final var exchanges = decode(CoingeckoJsonDecoders.exchangeList(), body);
+
+        // Then
+        assertThat(exchanges, hasSize(2));
+        assertThat(exchanges.get(0).id(), is("binance"));
+        assertThat(exchanges.get(1).name(), is("Kraken"));
+    }
+
+    @Test
+    @DisplayName("Should reject an exchanges list that is not an array")
+    void shouldRejectExchangesListThatIsNotArray() {
+        // Given
+        final var body = """
+            {"error": "rate limited"}
+            """;
+
+        // When / Then
+        assertThrows(JsonParseException.class, () -> decode(CoingeckoJsonDecoders.exchangeList(), body));
+    }
+
+    private <T> T decode(final ResponseDecoder<T> decoder, final String body) throws IOException {
+        try (final var parser = jsonFactory.createParser(body)) {
+            return decoder.decode(parser);
+        }
+    }
+}
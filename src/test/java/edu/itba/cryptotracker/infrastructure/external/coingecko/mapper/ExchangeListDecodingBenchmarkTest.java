@@ -0,0 +1,79 @@
+package edu.itba.cryptotracker.infrastructure.external.coingecko.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.itba.cryptotracker.infrastructure.httpclient.ResponseDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Bytes allocated to decode a /exchanges/list-sized body, binding it to a
+ * List of Maps (what the gateway used to do) versus streaming it into DTOs.
+ *
+ * Allocation is read from the thread's own counter, so it doesn't depend on GC
+ * timing. Excluded from the regular test task; run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class ExchangeListDecodingBenchmarkTest {
+
+    // Coingecko lists a bit under 1000 exchanges; a few times that keeps the numbers stable
+    private static final int EXCHANGES = 5_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final byte[] body = IntStream.range(0, EXCHANGES)
+        .mapToObj(i -> String.format("{\"id\":\"exchange_%d\",\"name\":\"Exchange %d\"}", i, i))
+        .collect(Collectors.joining(",", "[", "]"))
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Streaming the exchanges list allocates less than binding it to maps")
+    void streamingAllocatesLessThanMaps() throws IOException {
+        final ResponseDecoder<List<?>> maps = parser -> objectMapper.readValue(parser, List.class);
+        final ResponseDecoder<List<?>> streaming = parser -> CoingeckoJsonDecoders.exchangeList().decode(parser);
+
+        final long mapBytes = allocatedPerCall("maps", maps);
+        final long streamingBytes = allocatedPerCall("streaming", streaming);
+
+        assertThat(streamingBytes, lessThan(mapBytes));
+    }
+
+    private long allocatedPerCall(final String name, final ResponseDecoder<List<?>> decoder) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            decode(decoder);
+        }
+
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            assertThat(decode(decoder).size(), is(EXCHANGES));
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        final long perCall = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ROUNDS;
+
+        System.out.printf("%-10s %5d exchanges  %8d KB allocated/call  %6.2f ms/call%n",
+            name, EXCHANGES, perCall / 1024, elapsedNanos / 1e6 / MEASURED_ROUNDS);
+        return perCall;
+    }
+
+    private List<?> decode(final ResponseDecoder<List<?>> decoder) throws IOException {
+        try (final var parser = objectMapper.createParser(body)) {
+            return decoder.decode(parser);
+        }
+    }
+}
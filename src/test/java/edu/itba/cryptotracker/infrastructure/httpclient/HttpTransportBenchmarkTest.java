@@ -0,0 +1,143 @@
+package edu.itba.cryptotracker.infrastructure.httpclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpTransportConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Throughput and tail latency of the two transports against a local MockWebServer
+ * answering a /simple/price-sized payload with a small fixed delay.
+ *
+ * Excluded from the regular test task; run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class HttpTransportBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 5_000;
+    private static final int CONCURRENCY = 16;
+    private static final long SERVER_DELAY_MILLIS = 2;
+
+    private static final String PRICE_BODY = """
+        {"bitcoin":{"usd":50000.12,"eur":45000.34,"btc":1},
+         "ethereum":{"usd":3000.56,"eur":2800.78,"btc":0.06},
+         "solana":{"usd":150.9,"eur":140.1,"btc":0.003}}
+        """;
+
+    private MockWebServer server;
+    private HttpTransportConfig transportConfig;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                    .setResponseCode(200)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(PRICE_BODY)
+                    .setBodyDelay(SERVER_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        transportConfig = HttpTransportConfig.builder().build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Benchmark RestTemplate transport")
+    void benchmarkRestTemplate() throws Exception {
+        var restTemplateHttp = new RestTemplateHttpImpl(new RestTemplateBuilder(), transportConfig);
+        restTemplateHttp.initRestTemplate();
+
+        run("resttemplate", restTemplateHttp);
+    }
+
+    @Test
+    @DisplayName("Benchmark OkHttp transport")
+    void benchmarkOkHttp() throws Exception {
+        var okHttp = new OkHttpHttpImpl(transportConfig, new ObjectMapper());
+        try {
+            run("okhttp", okHttp);
+        } finally {
+            okHttp.shutdown();
+        }
+    }
+
+    private void run(String name, HttpClient client) throws Exception {
+        var request = HttpRequest.<Map>builder()
+            .endpoint(server.url("/simple/price?ids=bitcoin,ethereum,solana&vs_currencies=usd,eur,btc").toString())
+            .responseType(Map.class)
+            .build();
+
+        measure(client, request, WARMUP_REQUESTS);
+
+        long start = System.nanoTime();
+        long[] latencies = measure(client, request, MEASURED_REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %8.0f req/s  p50 %6.2f ms  p99 %6.2f ms  p99.9 %6.2f ms  max %6.2f ms%n",
+            name,
+            MEASURED_REQUESTS / elapsedSeconds,
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.99),
+            percentile(latencies, 0.999),
+            latencies[latencies.length - 1] / 1e6);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private long[] measure(HttpClient client, HttpRequest<Map> request, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            Future<?>[] futures = new Future<?>[requests];
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                futures[i] = executor.submit(() -> {
+                    long start = System.nanoTime();
+                    var response = client.get(request);
+                    latencies[index] = System.nanoTime() - start;
+                    assertThat(response.statusCode(), is(200));
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return latencies;
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+        return sortedLatencies[index] / 1e6;
+    }
+}
@@ -0,0 +1,146 @@
+package edu.itba.cryptotracker.infrastructure.httpclient;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpRateLimitConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpTransportConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.RateLimitedHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * How many requests blocked on a slow upstream the app can hold open at once.
+ *
+ * Each simulated request runs on the executor Tomcat would give it (200 platform
+ * threads by default, or a virtual thread per request with the virtual profile)
+ * and makes one call that the upstream answers after UPSTREAM_DELAY. The upstream
+ * records how many calls it saw in flight at the same time.
+ *
+ * Excluded from the regular test task; run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int MAX_CONCURRENT_UPSTREAM_CALLS = 20;
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(500);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private MockWebServer server;
+    private RestTemplateHttpImpl transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(UPSTREAM_DELAY.toMillis());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return new MockResponse()
+                    .setResponseCode(200)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody("{\"bitcoin\":{\"usd\":50000}}");
+            }
+        });
+        server.start();
+
+        transport = new RestTemplateHttpImpl(new RestTemplateBuilder(), HttpTransportConfig.builder()
+            .readTimeout(Duration.ofSeconds(60))
+            .build());
+        transport.initRestTemplate();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transport.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Platform threads hold at most one upstream call per Tomcat thread")
+    void platformThreads() throws Exception {
+        run("platform", Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), transport);
+
+        assertThat(peakInFlight.get(), lessThanOrEqualTo(TOMCAT_MAX_THREADS));
+    }
+
+    @Test
+    @DisplayName("Virtual threads hold every request open at once")
+    void virtualThreads() throws Exception {
+        run("virtual", Executors.newVirtualThreadPerTaskExecutor(), transport);
+
+        assertThat(peakInFlight.get(), greaterThan(TOMCAT_MAX_THREADS));
+    }
+
+    @Test
+    @DisplayName("Virtual threads stay within the upstream concurrency cap")
+    void virtualThreadsWithConcurrencyCap() throws Exception {
+        var limit = HttpRateLimitConfig.HostLimit.builder()
+            .capacity(REQUESTS)
+            .refillTokens(REQUESTS)
+            .maxQueueSize(REQUESTS)
+            .maxWait(Duration.ofMinutes(1))
+            .maxConcurrentRequests(MAX_CONCURRENT_UPSTREAM_CALLS)
+            .build();
+        var rateLimited = new RateLimitedHttpClient(transport,
+            HttpRateLimitConfig.builder().defaults(limit).build(),
+            new SimpleMeterRegistry());
+
+        run("virtual+cap", Executors.newVirtualThreadPerTaskExecutor(), rateLimited);
+
+        assertThat(peakInFlight.get(), lessThanOrEqualTo(MAX_CONCURRENT_UPSTREAM_CALLS));
+    }
+
+    private void run(String name, ExecutorService requestExecutor, HttpClient client) throws Exception {
+        var request = HttpRequest.<Map>builder()
+            .endpoint(server.url("/simple/price?ids=bitcoin&vs_currencies=usd").toString())
+            .responseType(Map.class)
+            .build();
+
+        long start = System.nanoTime();
+        try (requestExecutor) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(requestExecutor.submit(() -> assertThat(client.get(request).statusCode(), is(200))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%-12s %5d requests  peak in flight %5d  %6.2f s  (%d ms upstream)%n",
+            name, REQUESTS, peakInFlight.get(), elapsedSeconds, UPSTREAM_DELAY.toMillis());
+    }
+}
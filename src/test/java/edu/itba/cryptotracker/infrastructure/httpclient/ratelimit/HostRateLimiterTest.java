@@ -0,0 +1,87 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.ratelimit.HostRateLimiter.Admission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class HostRateLimiterTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hand a freed slot to an interactive caller before an earlier background one")
+    void shouldHandFreedSlotToInteractiveCallerFirst() throws Exception {
+        // Given - plenty of tokens, one call in flight at a time, held by a background job
+        final var limiter = new HostRateLimiter(
+            new TokenBucket(10, 10, Duration.ofMinutes(1)), 10, Duration.ofSeconds(5), 1);
+        assertThat(limiter.acquire(RequestPriority.BACKGROUND), is(Admission.GRANTED));
+
+        final var background = acquireAsync(limiter, RequestPriority.BACKGROUND);
+        awaitQueueDepth(limiter, 1);
+        final var interactive = acquireAsync(limiter, RequestPriority.INTERACTIVE);
+        awaitQueueDepth(limiter, 2);
+
+        // When
+        limiter.release();
+
+        // Then
+        assertThat(interactive.get(5, TimeUnit.SECONDS), is(Admission.GRANTED));
+        assertThat(background.isDone(), is(false));
+
+        limiter.release();
+        assertThat(background.get(5, TimeUnit.SECONDS), is(Admission.GRANTED));
+        assertThat(limiter.inFlight(), is(1));
+    }
+
+    @Test
+    @DisplayName("Should answer busy without spending a token when no slot frees up in time")
+    void shouldAnswerBusyWithoutSpendingToken() throws Exception {
+        // Given
+        final var limiter = new HostRateLimiter(
+            new TokenBucket(5, 1, Duration.ofHours(1)), 10, Duration.ofMillis(50), 1);
+        limiter.acquire(RequestPriority.BACKGROUND);
+        final long tokensBefore = limiter.availableTokens();
+
+        // When
+        final var admission = limiter.acquire(RequestPriority.INTERACTIVE);
+
+        // Then
+        assertThat(admission, is(Admission.BUSY));
+        assertThat(limiter.availableTokens(), is(tokensBefore));
+    }
+
+    private CompletableFuture<Admission> acquireAsync(final HostRateLimiter limiter, final RequestPriority priority) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(priority);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private static void awaitQueueDepth(final HostRateLimiter limiter, final int depth) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(limiter.queueDepth(), is(depth));
+    }
+}
@@ -0,0 +1,98 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpRateLimitConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpRateLimitConfig.HostLimit;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedHttpClientTest {
+
+    private static final String ENDPOINT = "https://api.coingecko.com/api/v3/ping";
+
+    private static final HttpRequest<String> REQUEST = HttpRequest.<String>builder()
+        .endpoint(ENDPOINT)
+        .responseType(String.class)
+        .build();
+
+    @Mock
+    private HttpClient delegate;
+
+    @Test
+    @DisplayName("Should not spend a token on a call turned away for concurrency")
+    void shouldNotSpendTokenOnCallTurnedAwayForConcurrency() {
+        // Given - one call in flight at a time, no refill during the test
+        final var config = HttpRateLimitConfig.builder()
+            .defaults(HostLimit.builder()
+                .capacity(5)
+                .refillTokens(1)
+                .refillPeriod(Duration.ofHours(1))
+                .maxWait(Duration.ofMillis(50))
+                .maxConcurrentRequests(1)
+                .build())
+            .build();
+        final var client = new RateLimitedHttpClient(delegate, config, new SimpleMeterRegistry());
+
+        final var inFlight = new CompletableFuture<HttpResponse<String>>();
+        when(delegate.getAsync(any())).thenReturn(inFlight);
+        client.getAsync(REQUEST);
+        verify(delegate, timeout(5000)).getAsync(any());
+        final long tokensBefore = client.availableTokens(ENDPOINT);
+
+        // When
+        final var rejected = client.getAsync(REQUEST).join();
+
+        // Then
+        assertThat(rejected.statusCode(), is(503));
+        assertThat(rejected.isLocalRejection(), is(true));
+        assertThat(client.availableTokens(ENDPOINT), is(tokensBefore));
+        verify(delegate, times(1)).getAsync(any());
+    }
+
+    @Test
+    @DisplayName("Should return the future before the call gets its slot")
+    void shouldReturnFutureBeforeCallGetsItsSlot() throws Exception {
+        // Given - one call in flight at a time, holding the only slot
+        final var config = HttpRateLimitConfig.builder()
+            .defaults(HostLimit.builder()
+                .maxWait(Duration.ofSeconds(5))
+                .maxConcurrentRequests(1)
+                .build())
+            .build();
+        final var client = new RateLimitedHttpClient(delegate, config, new SimpleMeterRegistry());
+
+        final var inFlight = new CompletableFuture<HttpResponse<String>>();
+        final HttpResponse<String> ok = new HttpResponse<>("ok", 200, "OK");
+        when(delegate.getAsync(any()))
+            .thenReturn(inFlight)
+            .thenReturn(CompletableFuture.completedFuture(ok));
+        client.getAsync(REQUEST);
+        verify(delegate, timeout(5000)).getAsync(any());
+
+        // When
+        final var waiting = client.getAsync(REQUEST);
+
+        // Then - the caller got its future back while the call still waits
+        assertThat(waiting.isDone(), is(false));
+
+        inFlight.complete(ok);
+        assertThat(waiting.get(5, TimeUnit.SECONDS).statusCode(), is(200));
+        verify(delegate, times(2)).getAsync(any());
+    }
+}
@@ -0,0 +1,67 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should hand out up to capacity tokens in a burst")
+    void shouldHandOutUpToCapacityInBurst() {
+        // Given
+        final var bucket = new TokenBucket(3, 30, Duration.ofMinutes(1), clock::get);
+
+        // When / Then
+        assertThat(bucket.tryConsume(), is(true));
+        assertThat(bucket.tryConsume(), is(true));
+        assertThat(bucket.tryConsume(), is(true));
+        assertThat(bucket.tryConsume(), is(false));
+    }
+
+    @Test
+    @DisplayName("Should refill tokens at the configured rate")
+    void shouldRefillTokensAtConfiguredRate() {
+        // Given - 30 tokens per minute, one every 2 seconds
+        final var bucket = new TokenBucket(1, 30, Duration.ofMinutes(1), clock::get);
+        bucket.tryConsume();
+
+        // When
+        final long wait = bucket.nanosUntilAvailable();
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // Then
+        assertThat(Math.round(wait / 1_000_000d), is(2000L));
+        assertThat(bucket.tryConsume(), is(true));
+    }
+
+    @Test
+    @DisplayName("Should not accumulate more tokens than its capacity")
+    void shouldNotAccumulateMoreThanCapacity() {
+        // Given
+        final var bucket = new TokenBucket(5, 30, Duration.ofMinutes(1), clock::get);
+
+        // When
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+
+        // Then
+        assertThat(bucket.availableTokens(), is(5L));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive settings")
+    void shouldRejectNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TokenBucket(0, 30, Duration.ofMinutes(1), clock::get));
+        assertThrows(IllegalArgumentException.class,
+            () -> new TokenBucket(30, 30, Duration.ZERO, clock::get));
+    }
+}
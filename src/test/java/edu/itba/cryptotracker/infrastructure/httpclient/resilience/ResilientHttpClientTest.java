@@ -0,0 +1,149 @@
+package edu.itba.cryptotracker.infrastructure.httpclient.resilience;
+
+import edu.itba.cryptotracker.infrastructure.httpclient.HttpClient;
+import edu.itba.cryptotracker.infrastructure.httpclient.config.HttpResilienceConfig;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpRequest;
+import edu.itba.cryptotracker.infrastructure.httpclient.dto.HttpResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientHttpClientTest {
+
+    private static final HttpRequest<Map> REQUEST = HttpRequest.<Map>builder()
+        .endpoint("https://api.coingecko.com/api/v3/simple/price?ids=bitcoin")
+        .responseType(Map.class)
+        .onError(Map.of())
+        .build();
+
+    @Mock
+    private HttpClient delegate;
+
+    private ResilientHttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        final var config = HttpResilienceConfig.builder()
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofMillis(1))
+            .maxBackoff(Duration.ofMillis(5))
+            .failureThreshold(3)
+            .openDuration(Duration.ofMinutes(1))
+            .build();
+        client = new ResilientHttpClient(delegate, config, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should retry server errors until the host answers")
+    void shouldRetryServerErrorsUntilHostAnswers() {
+        // Given
+        when(delegate.get(any(HttpRequest.class))).thenReturn(
+            HttpResponse.error(Map.of(), 502, "Bad Gateway"),
+            new HttpResponse<>(Map.of("bitcoin", Map.of()), 200, "OK"));
+
+        // When
+        final var response = client.get(REQUEST);
+
+        // Then
+        assertThat(response.statusCode(), is(200));
+        verify(delegate, times(2)).get(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should retry I/O errors and rethrow the last one")
+    void shouldRetryIoErrorsAndRethrowLastOne() {
+        // Given
+        when(delegate.get(any(HttpRequest.class))).thenThrow(new UncheckedIOException(new IOException("reset")));
+
+        // When / Then
+        assertThrows(UncheckedIOException.class, () -> client.get(REQUEST));
+        verify(delegate, times(3)).get(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should not retry client errors")
+    void shouldNotRetryClientErrors() {
+        // Given
+        when(delegate.get(any(HttpRequest.class))).thenReturn(HttpResponse.error(Map.of(), 404, "Not Found"));
+
+        // When
+        final var response = client.get(REQUEST);
+
+        // Then
+        assertThat(response.statusCode(), is(404));
+        verify(delegate, times(1)).get(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should not retry nor count requests the rate limiter rejected")
+    void shouldNotRetryNorCountLocalRejections() {
+        // Given
+        when(delegate.get(any(HttpRequest.class)))
+            .thenReturn(HttpResponse.localRejection(Map.of(), 429, "Rate limit budget exhausted"));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            client.get(REQUEST);
+        }
+
+        // Then - the breaker is still closed, every call reached the rate limiter once
+        verify(delegate, times(5)).get(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should fail fast once the breaker opens")
+    void shouldFailFastOnceBreakerOpens() {
+        // Given
+        when(delegate.get(any(HttpRequest.class))).thenReturn(HttpResponse.error(Map.of(), 503, "Service Unavailable"));
+
+        // When
+        client.get(REQUEST);
+        final var shortCircuited = client.get(REQUEST);
+
+        // Then - three attempts open the breaker, the second call never reaches the host
+        assertThat(shortCircuited.statusCode(), is(503));
+        assertThat(shortCircuited.isLocalRejection(), is(true));
+        assertThat(shortCircuited.data(), is(Map.of()));
+        verify(delegate, times(3)).get(any(HttpRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should retry async calls after a failed first attempt")
+    void shouldRetryAsyncCallsAfterFailedFirstAttempt() {
+        // Given
+        when(delegate.getAsync(any(HttpRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HttpResponse.error(Map.of(), 500, "Internal Server Error")));
+        when(delegate.get(any(HttpRequest.class))).thenReturn(new HttpResponse<>(Map.of(), 200, "OK"));
+
+        // When
+        final var response = client.getAsync(REQUEST).join();
+
+        // Then
+        assertThat(response.statusCode(), is(200));
+        verify(delegate, times(1)).getAsync(any(HttpRequest.class));
+        verify(delegate, times(1)).get(any(HttpRequest.class));
+    }
+}
@@ -1,23 +1,27 @@
 package edu.itba.cryptotracker.infrastructure.persistence.jpa;
 
 import edu.itba.cryptotracker.domain.entity.crypto.Crypto;
-import edu.itba.cryptotracker.domain.gateway.CryptoProviderGateway;
+import edu.itba.cryptotracker.infrastructure.cache.CryptoCache;
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.CryptoEntity;
 import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.CryptoJpaMapper;
 import edu.itba.cryptotracker.util.TestDataFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,10 +31,13 @@ class CryptoJpaGatewayImplTest {
     private CryptoJpaRepository jpaRepository;
 
     @Mock
-    private CryptoProviderGateway providerGateway;
+    private CryptoJpaMapper entityMapper;
 
     @Mock
-    private CryptoJpaMapper entityMapper;
+    private CryptoCache cryptoCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private CryptoJpaGatewayImpl cryptoJpaGateway;
@@ -52,39 +59,49 @@ class CryptoJpaGatewayImplTest {
     }
 
     @Test
-    @DisplayName("Should find crypto by ID from JPA repository when entity exists")
-    void shouldFindCryptoByIdFromJpaRepositoryWhenEntityExists() {
+    @DisplayName("Should serve crypto from the cache without touching the database")
+    void shouldServeCryptoFromCacheWithoutTouchingDatabase() {
         // Given
         String coingeckoId = "bitcoin";
-        CryptoEntity entity = new CryptoEntity();
         Crypto crypto = TestDataFactory.createBitcoin();
-        
-        when(jpaRepository.findById(coingeckoId)).thenReturn(Optional.of(entity));
-        when(entityMapper.toDomain(entity)).thenReturn(crypto);
+        when(cryptoCache.get(eq(coingeckoId), any())).thenReturn(Optional.of(crypto));
 
         // When
         Optional<Crypto> result = cryptoJpaGateway.findById(coingeckoId);
 
         // Then
-        assertThat(result.isPresent(), is(true));
         assertThat(result.get(), is(crypto));
-        
-        verify(jpaRepository, times(1)).findById(coingeckoId);
-        verify(entityMapper, times(1)).toDomain(entity);
-        verify(providerGateway, never()).fetchCrypto(any());
+        verifyNoInteractions(jpaRepository);
     }
 
     @Test
-    @DisplayName("Should fetch from provider and save when entity not found in repository")
-    void shouldFetchFromProviderAndSaveWhenEntityNotFoundInRepository() {
+    @DisplayName("Should persist background refreshes inside a transaction")
+    @SuppressWarnings("unchecked")
+    void shouldPersistBackgroundRefreshesInsideTransaction() {
         // Given
-        String coingeckoId = "bitcoin";
         Crypto crypto = TestDataFactory.createBitcoin();
+        ArgumentCaptor<Consumer<Crypto>> onRefreshed = ArgumentCaptor.forClass(Consumer.class);
+        when(cryptoCache.get(eq("bitcoin"), onRefreshed.capture())).thenReturn(Optional.of(crypto));
+        cryptoJpaGateway.findById("bitcoin");
+
+        // When - the cache reports a refresh from its own thread
+        onRefreshed.getValue().accept(crypto);
+
+        // Then
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should find crypto by ID from JPA repository when entity exists")
+    void shouldFindCryptoByIdFromJpaRepositoryWhenEntityExists() {
+        // Given
+        String coingeckoId = "bitcoin";
         CryptoEntity entity = new CryptoEntity();
+        Crypto crypto = TestDataFactory.createBitcoin();
         
-        when(jpaRepository.findById(coingeckoId)).thenReturn(Optional.empty());
-        when(providerGateway.fetchCrypto(coingeckoId)).thenReturn(Optional.of(crypto));
-        when(entityMapper.toEntity(crypto)).thenReturn(entity);
+        when(jpaRepository.findById(coingeckoId)).thenReturn(Optional.of(entity));
+        when(entityMapper.toDomain(entity)).thenReturn(crypto);
 
         // When
         Optional<Crypto> result = cryptoJpaGateway.findById(coingeckoId);
@@ -94,28 +111,23 @@ class CryptoJpaGatewayImplTest {
         assertThat(result.get(), is(crypto));
         
         verify(jpaRepository, times(1)).findById(coingeckoId);
-        verify(providerGateway, times(1)).fetchCrypto(coingeckoId);
-        verify(entityMapper, times(1)).toEntity(crypto);
-        verify(jpaRepository, times(1)).save(entity);
+        verify(entityMapper, times(1)).toDomain(entity);
+        verify(cryptoCache, times(1)).admit(eq(crypto), any());
     }
 
     @Test
-    @DisplayName("Should return empty when crypto not found in repository and provider")
-    void shouldReturnEmptyWhenCryptoNotFoundInRepositoryAndProvider() {
+    @DisplayName("Should return empty on a database miss without fetching from the provider")
+    void shouldReturnEmptyOnDatabaseMissWithoutFetching() {
         // Given
         String coingeckoId = "nonexistent";
-        
         when(jpaRepository.findById(coingeckoId)).thenReturn(Optional.empty());
-        when(providerGateway.fetchCrypto(coingeckoId)).thenReturn(Optional.empty());
 
         // When
         Optional<Crypto> result = cryptoJpaGateway.findById(coingeckoId);
 
         // Then
         assertThat(result.isPresent(), is(false));
-        
         verify(jpaRepository, times(1)).findById(coingeckoId);
-        verify(providerGateway, times(1)).fetchCrypto(coingeckoId);
         verify(jpaRepository, never()).save(any());
     }
 
@@ -0,0 +1,72 @@
+package edu.itba.cryptotracker.infrastructure.persistence.jpa;
+
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.gateway.PlatformProviderGateway;
+import edu.itba.cryptotracker.infrastructure.cache.PlatformCatalog;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.entity.PlatformEntity;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.PlatformJpaMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformJpaGatewayImplTest {
+
+    @Mock
+    private PlatformJpaRepository jpaRepository;
+
+    @Mock
+    private PlatformProviderGateway platformProviderGateway;
+
+    @Mock
+    private PlatformJpaMapper mapper;
+
+    @Mock
+    private PlatformCatalog platformCatalog;
+
+    @InjectMocks
+    private PlatformJpaGatewayImpl platformJpaGateway;
+
+    @Test
+    @DisplayName("Should normalize the id before every lookup")
+    void shouldNormalizeIdBeforeEveryLookup() {
+        // Given
+        Platform binance = Platform.create("binance", "Binance");
+        when(platformCatalog.find(eq("binance"), any())).thenReturn(Optional.empty());
+        when(jpaRepository.findById("binance")).thenReturn(Optional.empty());
+        when(platformProviderGateway.fetchExchange("binance")).thenReturn(Optional.of(binance));
+        when(mapper.toEntity(binance)).thenReturn(new PlatformEntity());
+
+        // When
+        Optional<Platform> result = platformJpaGateway.findById("  Binance ");
+
+        // Then - fetched platforms are written through
+        assertThat(result, is(Optional.of(binance)));
+        verify(jpaRepository, times(1)).saveAll(anyList());
+        verify(platformCatalog, times(1)).merge(List.of(binance));
+    }
+
+    @Test
+    @DisplayName("Should not look up blank ids")
+    void shouldNotLookUpBlankIds() {
+        // When
+        Optional<Platform> result = platformJpaGateway.findById("   ");
+
+        // Then
+        assertThat(result, is(Optional.empty()));
+        verifyNoInteractions(platformCatalog, jpaRepository, platformProviderGateway);
+    }
+}
@@ -0,0 +1,65 @@
+package edu.itba.cryptotracker.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Checks through H2's EXPLAIN that the case-insensitive lookups hit an index
+ * instead of scanning the table.
+ */
+class IndexUsageIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should use idx_crypto_id when filtering holdings by crypto id")
+    void shouldUseCryptoIdIndexForHoldingsLookup() {
+        // When
+        final String plan = explain("SELECT SUM(quantity) FROM user_crypto WHERE crypto_id = LOWER('Bitcoin')");
+
+        // Then
+        assertThat(plan, containsStringIgnoringCase("idx_crypto_id"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a table scan when the column is wrapped in LOWER()")
+    void shouldScanTableWhenColumnIsWrappedInLower() {
+        // When
+        final String plan = explain("SELECT SUM(quantity) FROM user_crypto WHERE LOWER(crypto_id) = LOWER('Bitcoin')");
+
+        // Then
+        assertThat(plan, containsString("tableScan"));
+    }
+
+    @Test
+    @DisplayName("Should use idx_platform_name_normalized when looking up platforms by name")
+    void shouldUseNormalizedNameIndexForPlatformLookup() {
+        // When
+        final String plan = explain("SELECT id FROM platforms WHERE name_normalized = UPPER('Binance')");
+
+        // Then
+        assertThat(plan, containsStringIgnoringCase("idx_platform_name_normalized"));
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    @Test
+    @DisplayName("Should use the unique symbol index when looking up cryptos by symbol")
+    void shouldUseSymbolIndexForCryptoLookup() {
+        // When
+        final String plan = explain("SELECT id FROM crypto WHERE symbol = UPPER('btc')");
+
+        // Then
+        assertThat(plan, not(containsString("tableScan")));
+    }
+
+    private String explain(final String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
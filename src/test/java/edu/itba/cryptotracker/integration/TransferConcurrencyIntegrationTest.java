@@ -0,0 +1,212 @@
+package edu.itba.cryptotracker.integration;
+
+import edu.itba.cryptotracker.application.usecase.usercrypto.BatchTransferCryptoUseCaseImpl;
+import edu.itba.cryptotracker.application.usecase.usercrypto.TransferCryptoBetweenPlatformsUseCaseImpl;
+import edu.itba.cryptotracker.boot.config.RetryConfig;
+import edu.itba.cryptotracker.domain.entity.platform.Platform;
+import edu.itba.cryptotracker.domain.entity.usercrypto.UserCrypto;
+import edu.itba.cryptotracker.domain.exception.InvalidTransferException;
+import edu.itba.cryptotracker.domain.exception.UserCryptoNotFoundException;
+import edu.itba.cryptotracker.domain.gateway.PlatformRepositoryGateway;
+import edu.itba.cryptotracker.domain.gateway.UserCryptoRepositoryGateway;
+import edu.itba.cryptotracker.domain.model.TransferCryptoRequestModel;
+import edu.itba.cryptotracker.domain.usecase.usercrypto.BatchTransferCryptoUseCase;
+import edu.itba.cryptotracker.domain.usecase.usercrypto.TransferCryptoBetweenPlatformsUseCase;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.UserCryptoJpaGatewayImpl;
+import edu.itba.cryptotracker.infrastructure.persistence.jpa.mapper.UserCryptoJpaMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Hammers a single holding with concurrent transfers against a real database and
+ * checks no update is lost: whatever left the source arrived at the destination,
+ * and nothing left it beyond its balance. Also checks a batch that can't be fully
+ * applied leaves every holding untouched.
+ *
+ * Runs on its own H2 database and a minimal context with the real JPA gateway,
+ * outside any test transaction, so every transfer commits (or is refused) for real.
+ */
+@SpringBootTest(
+    classes = TransferConcurrencyIntegrationTest.TransferContext.class,
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "spring.datasource.url=jdbc:h2:mem:transfer-concurrency;DB_CLOSE_DELAY=-1"
+)
+class TransferConcurrencyIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 25;
+    private static final int TRANSFERS = THREADS * TRANSFERS_PER_THREAD;
+
+    // Not a @Configuration on purpose: the application's component scan reaches test classes
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackages = "edu.itba.cryptotracker.infrastructure.persistence.jpa")
+    @EntityScan(basePackages = "edu.itba.cryptotracker.infrastructure.persistence.jpa")
+    @Import({
+        RetryConfig.class,
+        UserCryptoJpaGatewayImpl.class,
+        UserCryptoJpaMapper.class,
+        TransferCryptoBetweenPlatformsUseCaseImpl.class,
+        BatchTransferCryptoUseCaseImpl.class
+    })
+    static class TransferContext {
+
+        @Bean
+        PlatformRepositoryGateway platformRepository() {
+            final var platforms = Mockito.mock(PlatformRepositoryGateway.class);
+            when(platforms.findById(anyString()))
+                .thenAnswer(invocation -> Optional.of(Platform.reconstitute(invocation.getArgument(0), "Exchange")));
+            when(platforms.findAllByIds(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                    .map(id -> Platform.reconstitute(id, "Exchange"))
+                    .toList());
+            return platforms;
+        }
+    }
+
+    @Autowired
+    private TransferCryptoBetweenPlatformsUseCase transferUseCase;
+
+    @Autowired
+    private BatchTransferCryptoUseCase batchTransferUseCase;
+
+    @Autowired
+    private UserCryptoRepositoryGateway userCryptoRepository;
+
+    @Test
+    @DisplayName("Should conserve quantity when many transfers hit the same holding at once")
+    void shouldConserveQuantityUnderConcurrentTransfers() throws Exception {
+        // Given - the destination doesn't exist yet, so the first transfers race to create it
+        final var initial = new BigDecimal("1000.00");
+        final var source = UserCrypto.create("user-1", initial, "binance", "bitcoin");
+        userCryptoRepository.save(source);
+
+        // When
+        final var outcome = transferConcurrently(source, "coinbase");
+
+        // Then
+        final var sourceQuantity = userCryptoRepository.findById(source.getId()).orElseThrow().getQuantity();
+        final var destinationQuantity = userCryptoRepository
+            .findByUserIdAndCryptoIdAndPlatformId("user-1", "bitcoin", "coinbase").orElseThrow().getQuantity();
+
+        assertThat(outcome.succeeded(), is(TRANSFERS));
+        assertThat(sourceQuantity, comparesEqualTo(initial.subtract(BigDecimal.valueOf(TRANSFERS))));
+        assertThat(destinationQuantity, comparesEqualTo(BigDecimal.valueOf(TRANSFERS)));
+    }
+
+    @Test
+    @DisplayName("Should never overdraw a holding when concurrent transfers exceed its balance")
+    void shouldNeverOverdrawUnderConcurrentTransfers() throws Exception {
+        // Given - only a quarter of the transfers fit in the balance
+        final var initial = BigDecimal.valueOf(TRANSFERS / 4);
+        final var source = UserCrypto.create("user-2", initial, "binance", "ethereum");
+        final var destination = UserCrypto.create("user-2", BigDecimal.ZERO, "kraken", "ethereum");
+        userCryptoRepository.saveAll(List.of(source, destination));
+
+        // When
+        final var outcome = transferConcurrently(source, "kraken");
+
+        // Then - whatever left the source arrived, and no more than it held left it
+        final var sourceQuantity = userCryptoRepository.findById(source.getId())
+            .map(UserCrypto::getQuantity)
+            .orElse(BigDecimal.ZERO);
+        final var destinationQuantity = userCryptoRepository.findById(destination.getId()).orElseThrow().getQuantity();
+
+        assertThat(outcome.succeeded() + outcome.refused(), is(TRANSFERS));
+        assertThat(sourceQuantity, greaterThanOrEqualTo(BigDecimal.ZERO));
+        assertThat(sourceQuantity.add(destinationQuantity), comparesEqualTo(initial));
+        assertThat(destinationQuantity, comparesEqualTo(BigDecimal.valueOf(outcome.succeeded())));
+    }
+
+    @Test
+    @DisplayName("Should leave every holding untouched when the last leg of a batch is refused")
+    void shouldRollBackWholeBatchWhenOneLegIsRefused() {
+        // Given - the first leg fits, the second overdraws its holding
+        final var bitcoin = UserCrypto.create("user-3", new BigDecimal("10.00"), "binance", "bitcoin");
+        final var ethereum = UserCrypto.create("user-3", new BigDecimal("5.00"), "binance", "ethereum");
+        userCryptoRepository.saveAll(List.of(bitcoin, ethereum));
+
+        final var legs = List.of(
+            new TransferCryptoRequestModel(bitcoin.getId(), "binance", "coinbase", new BigDecimal("4.00"), BigDecimal.ZERO, false),
+            new TransferCryptoRequestModel(ethereum.getId(), "binance", "coinbase", new BigDecimal("6.00"), BigDecimal.ZERO, false)
+        );
+
+        // When
+        assertThrows(InvalidTransferException.class, () -> batchTransferUseCase.execute(legs));
+
+        // Then
+        assertThat(userCryptoRepository.findById(bitcoin.getId()).orElseThrow().getQuantity(),
+            comparesEqualTo(new BigDecimal("10.00")));
+        assertThat(userCryptoRepository.findById(ethereum.getId()).orElseThrow().getQuantity(),
+            comparesEqualTo(new BigDecimal("5.00")));
+        assertThat(userCryptoRepository.findByUserIdAndCryptoIdAndPlatformId("user-3", "bitcoin", "coinbase").isPresent(),
+            is(false));
+    }
+
+    private Outcome transferConcurrently(final UserCrypto source, final String toPlatformId) throws Exception {
+        final var request = new TransferCryptoRequestModel(
+            source.getId(), source.getPlatformId(), toPlatformId, BigDecimal.ONE, BigDecimal.ZERO, false);
+
+        final var succeeded = new AtomicInteger();
+        final var refused = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+
+        final List<Future<?>> workers = new ArrayList<>();
+        try (final var executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        try {
+                            transferUseCase.execute(request);
+                            succeeded.incrementAndGet();
+                        } catch (final InvalidTransferException | UserCryptoNotFoundException e) {
+                            // Insufficient balance, or the source was emptied and deleted by a
+                            // transfer that committed first: allowed, as long as nothing was half applied
+                            refused.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var worker : workers) {
+                try {
+                    worker.get();
+                } catch (final ExecutionException e) {
+                    throw new AssertionError("Transfer failed with an unexpected error", e.getCause());
+                }
+            }
+        }
+
+        return new Outcome(succeeded.get(), refused.get());
+    }
+
+    private record Outcome(int succeeded, int refused) {
+    }
+}
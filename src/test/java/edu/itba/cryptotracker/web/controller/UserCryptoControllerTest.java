@@ -7,9 +7,12 @@ import edu.itba.cryptotracker.domain.exception.CryptoNotFoundException;
 import edu.itba.cryptotracker.domain.exception.DuplicateUserCryptoException;
 import edu.itba.cryptotracker.domain.exception.UserCryptoNotFoundException;
 import edu.itba.cryptotracker.domain.model.CreateCryptoRequestModel;
+import edu.itba.cryptotracker.domain.model.TransferCryptoResponseModel;
 import edu.itba.cryptotracker.domain.model.UpdateCryptoRequestModel;
 import edu.itba.cryptotracker.domain.usecase.usercrypto.*;
 import edu.itba.cryptotracker.util.TestDataFactory;
+import edu.itba.cryptotracker.web.dto.usercrypto.BatchTransferCryptoRequestDTO;
+import edu.itba.cryptotracker.web.dto.usercrypto.TransferCryptoRequestDTO;
 import edu.itba.cryptotracker.web.dto.usercrypto.UserCryptoRequestDTO;
 import edu.itba.cryptotracker.web.dto.usercrypto.UpdateUserCryptoRequestDTO;
 import edu.itba.cryptotracker.web.presenter.usercrypto.UserCryptoRestMapper;
@@ -60,9 +63,12 @@ class UserCryptoControllerTest {
     @Autowired
     private TransferCryptoBetweenPlatformsUseCase transferUseCase;
 
+    @Autowired
+    private BatchTransferCryptoUseCase batchTransferUseCase;
+
     @BeforeEach
     void setUp() {
-        reset(queryService, createUseCase, updateUseCase, deleteUseCase, transferUseCase);
+        reset(queryService, createUseCase, updateUseCase, deleteUseCase, transferUseCase, batchTransferUseCase);
     }
 
     @Test
@@ -328,4 +334,67 @@ class UserCryptoControllerTest {
 
         verify(createUseCase, never()).execute(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should transfer a batch and return one result per leg")
+    void shouldTransferBatchSuccessfully() throws Exception {
+        // Given
+        UUID bitcoinId = UUID.randomUUID();
+        UUID ethereumId = UUID.randomUUID();
+        BatchTransferCryptoRequestDTO requestDTO = new BatchTransferCryptoRequestDTO(List.of(
+                new TransferCryptoRequestDTO(bitcoinId, "binance-id", "coinbase-id",
+                        new BigDecimal("1.00"), new BigDecimal("0.10"), false),
+                new TransferCryptoRequestDTO(ethereumId, "binance-id", "kraken-id",
+                        new BigDecimal("2.00"), BigDecimal.ZERO, false)
+        ));
+
+        UUID coinbaseId = UUID.randomUUID();
+        UUID krakenId = UUID.randomUUID();
+        when(batchTransferUseCase.execute(any())).thenReturn(List.of(
+                new TransferCryptoResponseModel(bitcoinId, coinbaseId, "binance-id", "coinbase-id",
+                        new BigDecimal("1.00"), new BigDecimal("0.10"), new BigDecimal("0.90")),
+                new TransferCryptoResponseModel(ethereumId, krakenId, "binance-id", "kraken-id",
+                        new BigDecimal("2.00"), BigDecimal.ZERO, new BigDecimal("2.00"))
+        ));
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/user-cryptos/transfer/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.transfers", hasSize(2)))
+                .andExpect(jsonPath("$.transfers[0].destinationId", is(coinbaseId.toString())))
+                .andExpect(jsonPath("$.transfers[1].destinationId", is(krakenId.toString())));
+
+        verify(batchTransferUseCase, times(1)).execute(argThat(transfers ->
+                transfers.size() == 2 &&
+                transfers.get(0).userCryptoId().equals(bitcoinId) &&
+                transfers.get(1).toPlatformId().equals("kraken-id")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch has no transfers or an invalid leg")
+    void shouldReturn400ForInvalidBatch() throws Exception {
+        // Given
+        BatchTransferCryptoRequestDTO empty = new BatchTransferCryptoRequestDTO(List.of());
+        BatchTransferCryptoRequestDTO invalidLeg = new BatchTransferCryptoRequestDTO(List.of(
+                new TransferCryptoRequestDTO(UUID.randomUUID(), "binance-id", "coinbase-id",
+                        new BigDecimal("-1.00"), BigDecimal.ZERO, false)
+        ));
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/user-cryptos/transfer/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(empty)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/user-cryptos/transfer/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidLeg)))
+                .andExpect(status().isBadRequest());
+
+        verify(batchTransferUseCase, never()).execute(any());
+    }
+}